@@ -36,6 +36,7 @@ public final class ActorSchedulerConfiguration {
   public ActorScheduler scheduler() {
     final var cpuThreads = schedulerConfiguration.cpuThreads();
     final var ioThreads = schedulerConfiguration.ioThreads();
+    final var exporterThreads = schedulerConfiguration.exporterThreads();
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.prefix();
     final var nodeId = schedulerConfiguration.nodeId();
@@ -45,6 +46,7 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setExporterActorThreadCount(exporterThreads)
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -55,5 +57,10 @@ public final class ActorSchedulerConfiguration {
   }
 
   public record SchedulerConfiguration(
-      int cpuThreads, int ioThreads, boolean metricsEnabled, String prefix, String nodeId) {}
+      int cpuThreads,
+      int ioThreads,
+      int exporterThreads,
+      boolean metricsEnabled,
+      String prefix,
+      String nodeId) {}
 }
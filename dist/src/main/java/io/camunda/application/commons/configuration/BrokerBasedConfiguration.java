@@ -72,9 +72,11 @@ public final class BrokerBasedConfiguration {
     final var threadCfg = properties.getThreads();
     final var cpuThreads = threadCfg.getCpuThreadCount();
     final var ioThreads = threadCfg.getIoThreadCount();
+    final var exporterThreads = threadCfg.getExporterThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, exporterThreads, metricsEnabled, "Broker", nodeId);
   }
 
   @ConditionalOnRestGatewayEnabled
@@ -97,9 +97,12 @@ public final class GatewayBasedConfiguration {
     final var cpuThreads = properties.getThreads().getManagementThreads();
     // We set ioThreads to zero as the Gateway isn't using any IO threads.
     final var ioThreads = 0;
+    // The Gateway doesn't run any exporters either.
+    final var exporterThreads = 0;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, exporterThreads, metricsEnabled, "Gateway", nodeId);
   }
 
   @Bean
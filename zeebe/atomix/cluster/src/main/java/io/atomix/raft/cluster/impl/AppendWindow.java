@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Tracks the append requests which are in flight to a single member, and how many may be in flight
+ * at the same time. Pipelining multiple appends hides the round trip time to the member, which
+ * otherwise bounds the replication throughput.
+ *
+ * <p>The window starts with a single request, doubles with every successful append up to the
+ * configured maximum, and falls back to a single request whenever the member rejects an append.
+ * Appends sent after a rejection would most likely be rejected as well, as they are based on the
+ * same wrong assumption about the member's log.
+ *
+ * <p>Responses may arrive in any order, since the window only counts the requests which are in
+ * flight, and not which ones.
+ *
+ * <p>A separate window limits the install requests, i.e. the snapshot chunks which are sent to the
+ * member before it acknowledged the previous ones.
+ */
+final class AppendWindow {
+
+  private final int maxSize;
+  private int size = 1;
+  private int inFlightCount;
+  private long inFlightBytes;
+
+  AppendWindow(final int maxSize) {
+    this.maxSize = Math.max(1, maxSize);
+  }
+
+  /**
+   * @return true if another append request may be sent
+   */
+  boolean isOpen() {
+    return inFlightCount < size;
+  }
+
+  /**
+   * @return true if there are no requests in flight
+   */
+  boolean isEmpty() {
+    return inFlightCount == 0;
+  }
+
+  /**
+   * Tracks a new request as in flight.
+   *
+   * @param bytes the approximate size of the entries of the request
+   */
+  void start(final long bytes) {
+    inFlightCount++;
+    inFlightBytes += bytes;
+  }
+
+  /**
+   * Tracks a request as no longer in flight, regardless of whether it succeeded.
+   *
+   * @param bytes the approximate size of the entries of the request, as given when it was started
+   */
+  void complete(final long bytes) {
+    inFlightCount = Math.max(0, inFlightCount - 1);
+    inFlightBytes = Math.max(0, inFlightBytes - bytes);
+  }
+
+  /** Grows the window after the member accepted an append. */
+  void onAppendSucceeded() {
+    size = Math.min(maxSize, size * 2);
+  }
+
+  /** Shrinks the window after the member rejected an append. */
+  void onAppendRejected() {
+    size = 1;
+  }
+
+  void reset() {
+    size = 1;
+    inFlightCount = 0;
+    inFlightBytes = 0;
+  }
+
+  int inFlightCount() {
+    return inFlightCount;
+  }
+
+  long inFlightBytes() {
+    return inFlightBytes;
+  }
+
+  /**
+   * @return the ratio of in flight requests to the maximum window size
+   */
+  double utilization() {
+    return (double) inFlightCount / maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return "AppendWindow{"
+        + "size="
+        + size
+        + ", maxSize="
+        + maxSize
+        + ", inFlightCount="
+        + inFlightCount
+        + ", inFlightBytes="
+        + inFlightBytes
+        + '}';
+  }
+}
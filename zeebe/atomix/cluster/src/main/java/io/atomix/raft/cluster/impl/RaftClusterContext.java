@@ -357,6 +357,7 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
       remoteMemberContexts.remove(memberId);
       remoteActiveMembers.remove(context);
       replicationTargets.remove(context);
+      raft.getReplicationMetrics().removeAppendWindow(memberId.id());
       hasRemoteActiveMembers = !remoteActiveMembers.isEmpty();
     }
   }
@@ -375,7 +376,8 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    raft.getMaxAppendsPerFollower(),
+                    raft.getMaxSnapshotChunksInFlight()));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -41,14 +42,18 @@ public final class RaftMemberContext {
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private ByteBuffer nextSnapshotChunkToSend;
+  private boolean lastSnapshotChunkSent;
+  private long lastInstall;
+  private long firstInstallOfAttempt;
+  private long lastAcknowledgedInstall;
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
-  private int inFlightAppendCount;
-  private boolean appendSucceeded;
+  private final AppendWindow appendWindow;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private final AppendWindow installWindow;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +63,12 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxSnapshotChunksInFlight) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow = new AppendWindow(maxAppendsPerMember);
+    installWindow = new AppendWindow(maxSnapshotChunksInFlight);
   }
 
   /** Resets the member state. */
@@ -68,14 +76,14 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    restartInstall();
+    installWindow.reset();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
-    inFlightAppendCount = 0;
+    appendWindow.reset();
     timeStats.clear();
     configuring = false;
-    installing = false;
-    appendSucceeded = false;
     failures = 0;
     failureTime = 0;
 
@@ -150,9 +158,8 @@ public final class RaftMemberContext {
    */
   public boolean canAppend() {
     return open
-        && (inFlightAppendCount == 0
-            || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
+        && (appendWindow.isEmpty()
+            || (appendWindow.isOpen()
                 && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
                     >= appendTime));
   }
@@ -163,49 +170,73 @@ public final class RaftMemberContext {
    * @return Indicates whether a heartbeat can be sent to the member.
    */
   public boolean canHeartbeat() {
-    return open && inFlightAppendCount == 0;
+    return open && appendWindow.isEmpty();
   }
 
-  /** Flags the last append to the member as successful. */
+  /**
+   * Flags the last append to the member as successful, which allows more appends to be pipelined.
+   */
   public void appendSucceeded() {
-    appendSucceeded(true);
+    appendWindow.onAppendSucceeded();
   }
 
   /**
-   * Sets whether the last append to the member succeeded.
-   *
-   * @param succeeded Whether the last append to the member succeeded.
+   * Flags the last append to the member as failed, which stops pipelining appends until appends
+   * succeed again.
    */
-  private void appendSucceeded(final boolean succeeded) {
-    appendSucceeded = succeeded;
-  }
-
-  /** Flags the last append to the member is failed. */
   public void appendFailed() {
-    appendSucceeded(false);
+    appendWindow.onAppendRejected();
   }
 
-  /** Starts an append request to the member. */
+  /** Starts an append request without entries to the member. */
   public void startAppend() {
-    inFlightAppendCount++;
+    startAppend(0);
+  }
+
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The approximate size of the entries of the append.
+   */
+  public void startAppend(final long bytes) {
+    appendWindow.start(bytes);
     appendTime = System.currentTimeMillis();
   }
 
-  /** Completes an append request to the member. */
+  /** Completes an append request without entries to the member. */
   public void completeAppend() {
-    inFlightAppendCount--;
+    appendWindow.complete(0);
   }
 
   /**
    * Completes an append request to the member.
    *
    * @param time The time in milliseconds for the append.
+   * @param bytes The approximate size of the entries of the append, as given when it was started.
    */
-  public void completeAppend(final long time) {
-    inFlightAppendCount--;
+  public void completeAppend(final long time, final long bytes) {
+    appendWindow.complete(bytes);
     timeStats.addValue(time);
   }
 
+  /**
+   * Returns the approximate size of the entries of all appends in flight to the member.
+   *
+   * @return the in flight bytes
+   */
+  public long getInFlightAppendBytes() {
+    return appendWindow.inFlightBytes();
+  }
+
+  /**
+   * Returns the ratio of the appends in flight to the member to the maximum appends per member.
+   *
+   * @return the utilization of the append window, between 0 and 1
+   */
+  public double getAppendWindowUtilization() {
+    return appendWindow.utilization();
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -231,17 +262,78 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && installWindow.isOpen();
+  }
+
+  /**
+   * Starts an install request to the member. The next install request continues with the chunk
+   * after the one of this request, without waiting for the member to acknowledge it.
+   *
+   * @param request The install request.
+   * @param bytes The size of the snapshot chunk of the request.
+   * @return The sequence number of the request, which increases with every started request.
+   */
+  public long startInstall(final InstallRequest request, final long bytes) {
+    installWindow.start(bytes);
+    nextSnapshotChunkToSend = request.nextChunkId();
+    lastSnapshotChunkSent = request.complete();
+    return ++lastInstall;
+  }
+
+  /**
+   * Completes an install request to the member.
+   *
+   * @param bytes The size of the snapshot chunk of the request, as given when it was started.
+   */
+  public void completeInstall(final long bytes) {
+    installWindow.complete(bytes);
+  }
+
+  /**
+   * Flags the last install request as successful, which allows more snapshot chunks to be sent
+   * without waiting for their acknowledgement.
+   */
+  public void installSucceeded() {
+    installWindow.onAppendSucceeded();
+  }
+
+  /**
+   * Restarts the install from the member's next expected snapshot chunk, e.g. because an install
+   * request failed. The member rejects all chunks which were sent after a missing one, so the
+   * responses to the requests of previous attempts must be ignored.
+   */
+  public void restartInstall() {
+    installWindow.onAppendRejected();
+    nextSnapshotChunkToSend = null;
+    lastSnapshotChunkSent = false;
+    firstInstallOfAttempt = lastInstall + 1;
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Returns whether the given install request belongs to the current install attempt.
+   *
+   * @param install The sequence number of the request, as returned when it was started.
+   * @return true if no install was restarted since the request was started, false otherwise.
+   */
+  public boolean isCurrentInstallAttempt(final long install) {
+    return install >= firstInstallOfAttempt;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /**
+   * Acknowledges the given install request. Acknowledgements may arrive out of order, so the
+   * member's next expected snapshot chunk may only be moved forward if no later request was
+   * acknowledged yet.
+   *
+   * @param install The sequence number of the request, as returned when it was started.
+   * @return true if it is the latest acknowledged request, false if a later one was acknowledged
+   */
+  public boolean acknowledgeInstall(final long install) {
+    if (install <= lastAcknowledgedInstall) {
+      return false;
+    }
+
+    lastAcknowledgedInstall = install;
+    return true;
   }
 
   /**
@@ -273,11 +365,11 @@ public final class RaftMemberContext {
         .add("nextSnapshotChunk", nextSnapshotChunk)
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
-        .add("appending", inFlightAppendCount)
-        .add("appendSucceeded", appendSucceeded)
+        .add("appendWindow", appendWindow)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("nextSnapshotChunkToSend", nextSnapshotChunkToSend)
+        .add("installWindow", installWindow)
         .add("failures", failures)
         .toString();
   }
@@ -418,6 +510,26 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the ID of the next snapshot chunk to send to the member. While install requests are in
+   * flight, this is ahead of the member's next expected chunk.
+   *
+   * @return The next chunk ID to send, or null if the snapshot is sent from its first chunk.
+   */
+  public ByteBuffer getNextSnapshotChunkToSend() {
+    return nextSnapshotChunkToSend != null ? nextSnapshotChunkToSend : nextSnapshotChunk;
+  }
+
+  /**
+   * Returns whether the last chunk of the snapshot was sent in the current install attempt, in
+   * which case there are no more chunks to send until the member acknowledges it.
+   *
+   * @return true if the last snapshot chunk was sent, false otherwise.
+   */
+  public boolean isLastSnapshotChunkSent() {
+    return lastSnapshotChunkSent;
+  }
+
   /**
    * Returns the member response time.
    *
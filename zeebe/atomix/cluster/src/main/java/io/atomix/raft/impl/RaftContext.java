@@ -402,6 +402,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -527,8 +531,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
+      if (isLeader() && raftLog.flushesDirectly()) {
+        // leader counts itself in quorum, so in order to commit the leader must persist; with any
+        // other flusher, the leader appender already waited for the flush before committing
         raftLog.flush();
       }
       final long configurationIndex = cluster.getConfiguration().index();
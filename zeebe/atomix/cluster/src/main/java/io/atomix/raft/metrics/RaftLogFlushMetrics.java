@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class RaftLogFlushMetrics extends RaftMetrics {
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_batch_size")
+          .help("Number of flush requests which were coalesced into a single flush of the log")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .exponentialBuckets(1, 2, 10)
+          .register();
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_latency")
+          .help("Time it takes to flush a batch of flush requests to disk")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(.0001, .0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
+  private final Histogram.Child flushBatchSize;
+  private final Histogram.Child flushLatency;
+
+  public RaftLogFlushMetrics(final String partitionName) {
+    super(partitionName);
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(partitionGroupName, partition);
+    flushLatency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+  }
+
+  public void observeFlush(final int batchSize, final long latencyNanos) {
+    flushBatchSize.observe(batchSize);
+    flushLatency.observe(latencyNanos / 1_000_000_000d);
+  }
+}
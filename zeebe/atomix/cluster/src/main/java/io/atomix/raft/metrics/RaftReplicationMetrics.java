@@ -18,6 +18,7 @@ package io.atomix.raft.metrics;
 import io.prometheus.client.Gauge;
 
 public class RaftReplicationMetrics extends RaftMetrics {
+  private static final String FOLLOWER_LABEL = "follower";
 
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
@@ -35,6 +36,24 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge APPEND_IN_FLIGHT_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The approximate size of the entries in append requests in flight to a follower")
+          .name("partition_raft_append_in_flight_bytes")
+          .register();
+
+  private static final Gauge APPEND_WINDOW_UTILIZATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help(
+              "The ratio of append requests in flight to a follower to the maximum number of"
+                  + " append requests in flight per follower")
+          .name("partition_raft_append_window_utilization")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
 
@@ -52,4 +71,17 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void observeAppendWindow(
+      final String follower, final long inFlightBytes, final double windowUtilization) {
+    APPEND_IN_FLIGHT_BYTES.labels(follower, partitionGroupName, partition).set(inFlightBytes);
+    APPEND_WINDOW_UTILIZATION
+        .labels(follower, partitionGroupName, partition)
+        .set(windowUtilization);
+  }
+
+  public void removeAppendWindow(final String follower) {
+    APPEND_IN_FLIGHT_BYTES.remove(follower, partitionGroupName, partition);
+    APPEND_WINDOW_UTILIZATION.remove(follower, partitionGroupName, partition);
+  }
 }
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_COMPRESS_RECORDS = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressRecords = DEFAULT_COMPRESS_RECORDS;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,22 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to compress records before writing them to the log, false otherwise
+   */
+  public boolean isCompressRecords() {
+    return compressRecords;
+  }
+
+  /**
+   * Sets whether records are compressed before they are written to the log.
+   *
+   * @param compressRecords true to compress records, false otherwise
+   */
+  public void setCompressRecords(final boolean compressRecords) {
+    this.compressRecords = compressRecords;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +156,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", compressRecords="
+        + compressRecords
         + '}';
   }
 }
@@ -20,6 +20,9 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Snapshot installation response.
@@ -31,22 +34,44 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // must be a registered collection type, i.e. an ArrayList
+  protected ArrayList<String> reusedChunks;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final ArrayList<String> reusedChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedChunks = reusedChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the names of the snapshot chunks which the member reused from its own snapshot, and
+   * which the leader can skip. Members of older versions never reuse chunks.
+   *
+   * @return the names of the reused chunks
+   */
+  public List<String> reusedChunks() {
+    return reusedChunks == null ? List.of() : reusedChunks;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -62,17 +87,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected ArrayList<String> reusedChunks;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedChunks);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedChunks(final Collection<String> reusedChunks) {
+      this.reusedChunks = reusedChunks.isEmpty() ? null : new ArrayList<>(reusedChunks);
+      return this;
+    }
   }
 }
@@ -63,8 +63,11 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  // enough for a few batches, as followers which keep up request the same entries
+  private static final int CACHED_BATCHES = 4;
 
   private final int maxBatchSizePerAppend;
+  private final ReplicatableRecordCache recordCache;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -86,6 +89,7 @@ final class LeaderAppender {
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    recordCache = new ReplicatableRecordCache((long) CACHED_BATCHES * maxBatchSizePerAppend);
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -184,7 +188,7 @@ final class LeaderAppender {
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = recordCache.get(entry);
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
@@ -205,7 +209,9 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final long requestBytes = approximateSize(request);
+    member.startAppend(requestBytes);
+    observeAppendWindow(member);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -219,10 +225,11 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(appendLatency, requestBytes);
                 } else {
                   member.completeAppend();
                 }
+                observeAppendWindow(member);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -239,6 +246,21 @@ final class LeaderAppender {
     }
   }
 
+  private long approximateSize(final VersionedAppendRequest request) {
+    long bytes = 0;
+    for (final ReplicatableJournalRecord entry : request.entries()) {
+      bytes += entry.approximateSize();
+    }
+    return bytes;
+  }
+
+  private void observeAppendWindow(final RaftMemberContext member) {
+    final String memberId = member.getMember().memberId().id();
+    raft.getReplicationMetrics()
+        .observeAppendWindow(
+            memberId, member.getInFlightAppendBytes(), member.getAppendWindowUtilization());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -265,8 +287,11 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. As appends
+    // are pipelined, responses can arrive out of order, and must not move the match index back.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -383,7 +408,11 @@ final class LeaderAppender {
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
-        final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        // if the member has a snapshot already, it may reuse most of its files
+        final SnapshotChunkReader snapshotChunkReader =
+            member.getSnapshotIndex() > 0
+                ? persistedSnapshot.newIncrementalChunkReader()
+                : persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -395,18 +424,25 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.restartInstall();
+    }
+
+    if (member.isLastSnapshotChunkSent()) {
+      // wait for the member to acknowledge the snapshot before sending it again
+      return Optional.empty();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    final ByteBuffer nextChunkId = member.getNextSnapshotChunkToSend();
 
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
       // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
+      if (nextChunkId != null) {
+        reader.seek(nextChunkId);
       } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
+        // nextChunkId is null when it is the first chunk.
         reader.reset();
       }
 
@@ -429,7 +465,7 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(nextChunkId == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -449,8 +485,10 @@ final class LeaderAppender {
 
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
-    // Start the install to the member.
-    member.startInstall();
+    // Start the install to the member. The member applies the chunks in the order in which they are
+    // sent, so the next chunk may be sent before this one is acknowledged.
+    final int chunkSize = request.data().remaining();
+    final long install = member.startInstall(request, chunkSize);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -461,11 +499,19 @@ final class LeaderAppender {
             (response, error) -> {
               if (open) {
                 // Complete the install to the member.
-                member.completeInstall();
-
-                if (error == null) {
+                member.completeInstall(chunkSize);
+
+                if (!member.isCurrentInstallAttempt(install)) {
+                  // the install was restarted after an earlier chunk failed, so the member most
+                  // likely rejected this chunk as well; it is sent again as part of the restart
+                  log.trace(
+                      "Ignoring response to outdated {} from {}",
+                      request,
+                      member.getMember().memberId());
+                  appendEntries(member);
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleInstallResponse(member, request, response, timestamp);
+                  handleInstallResponse(member, request, install, response, timestamp);
                 } else {
                   // Trigger reactions to the install response failure.
                   handleInstallResponseFailure(member, request, error);
@@ -488,6 +534,8 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
+    // Resend all chunks which the member did not acknowledge yet, starting with the next expected
+    member.restartInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -497,17 +545,29 @@ final class LeaderAppender {
   private void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long install,
       final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
+    member.installSucceeded();
 
     //    if not given in response defaults to 0
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // the member reused these chunks from its own snapshot, so there is no need to send them
+    if (!response.reusedChunks().isEmpty()) {
+      member.getSnapshotChunkReader().skip(response.reusedChunks());
+    }
+    if (!member.acknowledgeInstall(install)) {
+      // a later chunk was acknowledged already; moving back to the chunk after this one would send
+      // chunks again which the member applied already
+      log.trace(
+          "Ignoring out of order response to {} from {}", request, member.getMember().memberId());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
-    if (request.complete()) {
+    else if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
       member.setSnapshotIndex(request.index());
@@ -536,6 +596,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.restartInstall();
   }
 
   /**
@@ -560,9 +621,15 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
-      raft.setCommitIndex(index);
-      completeCommits(index);
-      return CompletableFuture.completedFuture(index);
+      if (raft.getLog().flushesDirectly()) {
+        raft.setCommitIndex(index);
+        completeCommits(index);
+        return CompletableFuture.completedFuture(index);
+      }
+
+      final var future = appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+      commitAfterFlush(index);
+      return future;
     }
 
     if (!open) {
@@ -847,10 +914,11 @@ final class LeaderAppender {
   private void handleInstallResponse(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long install,
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request, response);
+      handleInstallResponseOk(member, request, install, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
@@ -868,6 +936,12 @@ final class LeaderAppender {
         future ->
             future.completeExceptionally(
                 new RaftException.ProtocolException("Failed to reach consensus")));
+    raft.getCluster()
+        .getReplicationTargets()
+        .forEach(
+            member ->
+                raft.getReplicationMetrics()
+                    .removeAppendWindow(member.getMember().memberId().id()));
   }
 
   private void tryToReplicate(final RaftMemberContext member) {
@@ -908,8 +982,16 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // Fill the install window, such that the member receives the next chunks while it writes the
+    // previous ones
+    do {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+    } while (member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1019,6 +1101,44 @@ final class LeaderAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
+      if (raft.getLog().flushesDirectly()) {
+        log.trace("Committed entries up to {}", commitIndex);
+        raft.setCommitIndex(commitIndex);
+        completeCommits(commitIndex);
+      } else {
+        commitAfterFlush(commitIndex);
+      }
+    }
+  }
+
+  /**
+   * The leader counts itself in the quorum, so it may only commit entries once they are flushed.
+   * When the log is flushed asynchronously, this waits for the flush before committing, instead of
+   * relying on the flush in {@link RaftContext#setCommitIndex(long)}. All commits which wait for
+   * the same flush are completed together, and only the greatest commit index is applied.
+   */
+  private void commitAfterFlush(final long commitIndex) {
+    final CompletableFuture<Void> flushed = raft.getLog().flushAsync();
+    if (flushed.isDone() && !flushed.isCompletedExceptionally()) {
+      commitFlushedEntries(commitIndex);
+      return;
+    }
+
+    flushed.whenCompleteAsync(
+        (ignored, error) -> {
+          if (error != null) {
+            // the commit is retried on the next append response or append
+            log.warn(
+                "Failed to flush the log before committing entries up to {}", commitIndex, error);
+          } else if (open) {
+            commitFlushedEntries(commitIndex);
+          }
+        },
+        raft.getThreadContext());
+  }
+
+  private void commitFlushedEntries(final long commitIndex) {
+    if (commitIndex > raft.getCommitIndex()) {
       log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
       completeCommits(commitIndex);
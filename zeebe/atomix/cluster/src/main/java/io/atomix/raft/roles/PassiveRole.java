@@ -57,8 +57,11 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -72,6 +75,7 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -226,6 +230,7 @@ public class PassiveRole extends InactiveRole {
 
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
+    Collection<String> reusedChunks = List.of();
     if (request.complete()) {
       final long elapsed = System.currentTimeMillis() - pendingSnapshotStartTimestamp;
       final PersistedSnapshot persistedSnapshot;
@@ -253,13 +258,18 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
+      reusedChunks = pendingSnapshot.reusedChunks();
+      // the leader skips the reused chunks, so the next chunk is not necessarily the one it
+      // announced
+      setNextExpected(reusedChunks.isEmpty() ? request.nextChunkId() : null);
       previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.add(copyChunkId(request.chunkId()));
     }
 
     return CompletableFuture.completedFuture(
@@ -267,6 +277,7 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedChunks(reusedChunks)
                 .build()));
   }
 
@@ -424,8 +435,11 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)
+        || (!request.isInitial() && receivedSnapshotChunkIds.contains(request.chunkId()))) {
+      // Duplicate request for a chunk that was previously processed, e.g. resent by the leader
+      // after it missed the response to an earlier chunk. A resent initial chunk still restarts
+      // the snapshot, unless it is the last chunk received.
       return Either.left(
           logResponse(
               InstallResponse.builder()
@@ -541,10 +555,17 @@ public class PassiveRole extends InactiveRole {
     nextPendingSnapshotChunkId = nextChunkId;
   }
 
+  private static ByteBuffer copyChunkId(final ByteBuffer chunkId) {
+    final var copy = ByteBuffer.allocate(chunkId.remaining());
+    copy.put(chunkId.duplicate()).flip();
+    return copy;
+  }
+
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -756,11 +777,48 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
+    if (raft.getLog().flushesDirectly()) {
+      // Make sure all entries are flushed before ack to ensure we have persisted what we ack
+      flush(lastLogIndex, request.prevLogIndex());
+
+      // Return a successful append response.
+      succeedAppend(lastLogIndex, future);
+    } else {
+      // When flushing asynchronously, even requests without entries have to wait, as they
+      // acknowledge the entries of previous requests which may not be flushed yet.
+      succeedAppendAfterFlush(lastLogIndex, request.prevLogIndex(), future);
+    }
+  }
+
+  private void succeedAppendAfterFlush(
+      final long lastLogIndex,
+      final long previousEntryIndex,
+      final CompletableFuture<AppendResponse> future) {
+    final CompletableFuture<Void> flushed = raft.getLog().flushAsync();
+    if (flushed.isDone()) {
+      final Throwable error = flushed.isCompletedExceptionally() ? flushed.exceptionNow() : null;
+      completeAppendAfterFlush(lastLogIndex, previousEntryIndex, future, error);
+    } else {
+      flushed.whenCompleteAsync(
+          (ignored, error) ->
+              completeAppendAfterFlush(lastLogIndex, previousEntryIndex, future, error),
+          raft.getThreadContext());
+    }
+  }
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+  private void completeAppendAfterFlush(
+      final long lastLogIndex,
+      final long previousEntryIndex,
+      final CompletableFuture<AppendResponse> future,
+      final Throwable error) {
+    if (error == null) {
+      // Return a successful append response.
+      succeedAppend(lastLogIndex, future);
+    } else {
+      // the leader will retry from the previous entry, which flushes the appended entries again
+      log.warn("Failed to flush appended entries up to index {}", lastLogIndex, error);
+      failAppend(previousEntryIndex, future);
+    }
   }
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+
+/**
+ * Caches the {@link ReplicatableJournalRecord}s of the most recently replicated entries, such that
+ * the serialized entries are copied out of the log only once, and shared by the append requests to
+ * all followers. Followers which keep up with the leader request the same entries at roughly the
+ * same time, so only a few batches have to be kept.
+ *
+ * <p>The cache is direct mapped by index, and bounded by the total size of the cached records. When
+ * a new record does not fit, the records with the lowest indexes are evicted until it does, such
+ * that the most recently replicated entries are always cached. Records older than all cached ones,
+ * e.g. requested by a follower which lags behind, are only cached if they fit without evicting
+ * anything. Since a leader never changes the entries of its log, a cached record stays valid for as
+ * long as the leader, as long as both index and term match.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to be used from the Raft thread.
+ */
+final class ReplicatableRecordCache {
+
+  private static final int SLOT_COUNT = 1024;
+  private static final int SLOT_MASK = SLOT_COUNT - 1;
+
+  private final ReplicatableJournalRecord[] records = new ReplicatableJournalRecord[SLOT_COUNT];
+  private final long maxCachedBytes;
+  private long cachedBytes;
+  private int cachedRecords;
+  // a lower bound of the indexes of all cached records, only valid if any record is cached
+  private long oldestIndex;
+
+  /**
+   * @param maxCachedBytes the maximum total size of the cached records, as given by {@link
+   *     ReplicatableJournalRecord#approximateSize()}
+   */
+  ReplicatableRecordCache(final long maxCachedBytes) {
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  /**
+   * Returns the replicatable record of the given entry, copying it from the log only if it is not
+   * cached yet.
+   *
+   * @param entry the entry to replicate
+   * @return the record to replicate
+   */
+  ReplicatableJournalRecord get(final IndexedRaftLogEntry entry) {
+    final long index = entry.index();
+    final int slot = slot(index);
+    final ReplicatableJournalRecord cached = records[slot];
+    if (cached != null && cached.index() == index && cached.term() == entry.term()) {
+      return cached;
+    }
+
+    final ReplicatableJournalRecord record = entry.getReplicatableJournalRecord();
+    final long size = record.approximateSize();
+    if (size > maxCachedBytes) {
+      return record;
+    }
+
+    if (cachedRecords > 0 && index < oldestIndex) {
+      // older than all cached records, which are more likely to be requested again
+      if (cachedBytes + size > maxCachedBytes || cached != null) {
+        return record;
+      }
+      oldestIndex = index;
+    } else if (cached != null && cached.index() > index) {
+      // the slot is taken by a more recent record
+      return record;
+    }
+
+    if (cached != null) {
+      evict(slot);
+    }
+    while (cachedBytes + size > maxCachedBytes) {
+      evictOldest();
+    }
+
+    if (cachedRecords == 0) {
+      oldestIndex = index;
+    }
+    records[slot] = record;
+    cachedBytes += size;
+    cachedRecords++;
+    return record;
+  }
+
+  /**
+   * Evicts the cached record with the lowest index. Visiting the slots in index order from the
+   * lower bound, the first record whose index matches the visited index is the oldest. If there is
+   * none within one round over all slots, the oldest is the lowest index seen in that round.
+   */
+  private void evictOldest() {
+    int oldestSlot = -1;
+    long oldestSeenIndex = Long.MAX_VALUE;
+    for (int i = 0; i < SLOT_COUNT; i++) {
+      final long index = oldestIndex + i;
+      final int slot = slot(index);
+      final ReplicatableJournalRecord record = records[slot];
+      if (record == null) {
+        continue;
+      }
+
+      if (record.index() == index) {
+        oldestSlot = slot;
+        oldestSeenIndex = index;
+        break;
+      }
+
+      if (record.index() < oldestSeenIndex) {
+        oldestSlot = slot;
+        oldestSeenIndex = record.index();
+      }
+    }
+
+    evict(oldestSlot);
+    oldestIndex = oldestSeenIndex + 1;
+  }
+
+  private void evict(final int slot) {
+    cachedBytes -= records[slot].approximateSize();
+    cachedRecords--;
+    records[slot] = null;
+  }
+
+  private static int slot(final long index) {
+    return (int) (index & SLOT_MASK);
+  }
+}
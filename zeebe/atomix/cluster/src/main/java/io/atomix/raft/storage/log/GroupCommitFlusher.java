@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.Journal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which flushes asynchronously on its own thread
+ * context, coalescing all flush requests which arrive while a flush is in progress into the next
+ * flush. A single flush then makes the appends of many requests durable, which is commonly known as
+ * group commit.
+ *
+ * <p>Unlike the {@link DelayedFlusher}, this does not trade safety for performance, as long as
+ * callers wait on the future returned by {@link #flushAsync(Journal)} before acknowledging or
+ * committing anything. Calls to {@link #flush(Journal)} only request a flush, without waiting for
+ * it.
+ *
+ * <p>With a target latency greater than zero, a flush is delayed to coalesce more requests, as long
+ * as the first request of the batch is still expected to complete within the target latency. The
+ * expected flush latency is the 99th percentile of the latencies of the recent flushes, such that
+ * 99% of the batches complete within the target latency, as long as the flush latency does not
+ * change. With a target latency of zero, the next flush starts as soon as the previous one is done.
+ *
+ * <p>This class is thread safe: requests may come from any thread, while the flushes themselves
+ * always run on the given thread context, which is closed together with the flusher.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private static final int FLUSH_LATENCY_SAMPLES = 128;
+  private static final double FLUSH_LATENCY_PERCENTILE = 0.99;
+
+  private final ThreadContext flushContext;
+  private final long targetLatencyNanos;
+  private final RaftLogFlushMetrics metrics;
+
+  // guarded by this
+  private CompletableFuture<Void> pendingBatch;
+  private int pendingRequests;
+  private long pendingSinceNanos;
+  private boolean flushing;
+  private boolean closed;
+
+  // only accessed from the flush context
+  private final long[] flushLatencySamples = new long[FLUSH_LATENCY_SAMPLES];
+  private final long[] sortedFlushLatencies = new long[FLUSH_LATENCY_SAMPLES];
+  private int flushLatencySampleCount;
+  private int nextFlushLatencySample;
+
+  private volatile long expectedFlushLatencyNanos;
+
+  public GroupCommitFlusher(
+      final ThreadContext flushContext,
+      final Duration targetLatency,
+      final RaftLogFlushMetrics metrics) {
+    this.flushContext = Objects.requireNonNull(flushContext, "must specify a thread context");
+    targetLatencyNanos =
+        Objects.requireNonNull(targetLatency, "must specify a valid target latency").toNanos();
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    flushAsync(journal);
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> flushAsync(final Journal journal) {
+    if (closed) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("Expected to flush the journal, but the flusher is closed"));
+    }
+
+    if (pendingBatch == null) {
+      pendingBatch = new CompletableFuture<>();
+      pendingRequests = 0;
+      pendingSinceNanos = System.nanoTime();
+    }
+    pendingRequests++;
+
+    if (!flushing) {
+      flushing = true;
+      scheduleFlush(journal);
+    }
+
+    // callers must not be able to complete the batch of other callers
+    return pendingBatch.copy();
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+
+      if (pendingBatch != null) {
+        pendingBatch.completeExceptionally(
+            new IllegalStateException("Expected to flush the journal, but the flusher was closed"));
+        pendingBatch = null;
+      }
+    }
+
+    flushContext.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    final long waitedNanos = System.nanoTime() - pendingSinceNanos;
+    final long delayNanos = targetLatencyNanos - expectedFlushLatencyNanos - waitedNanos;
+    final long delayMillis = TimeUnit.NANOSECONDS.toMillis(delayNanos);
+
+    if (delayMillis > 0) {
+      LOGGER.trace("Scheduling flush of {} request(s) in {}ms", pendingRequests, delayMillis);
+      flushContext.schedule(Duration.ofMillis(delayMillis), () -> flushPendingBatch(journal));
+    } else {
+      flushContext.execute(() -> flushPendingBatch(journal));
+    }
+  }
+
+  private void flushPendingBatch(final Journal journal) {
+    final CompletableFuture<Void> batch;
+    final int batchSize;
+    synchronized (this) {
+      if (closed || pendingBatch == null) {
+        flushing = false;
+        return;
+      }
+
+      batch = pendingBatch;
+      batchSize = pendingRequests;
+      pendingBatch = null;
+    }
+
+    final long startNanos = System.nanoTime();
+    try {
+      journal.flush();
+      final long latencyNanos = System.nanoTime() - startNanos;
+      expectedFlushLatencyNanos = recordFlushLatency(latencyNanos);
+      metrics.observeFlush(batchSize, latencyNanos);
+      batch.complete(null);
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Failed to flush journal, failing {} flush request(s)", batchSize, e);
+      batch.completeExceptionally(e);
+    }
+
+    synchronized (this) {
+      if (!closed && pendingBatch != null) {
+        scheduleFlush(journal);
+      } else {
+        flushing = false;
+      }
+    }
+  }
+
+  /**
+   * Records the latency of a flush, and returns the 99th percentile of the recent flush latencies.
+   * Sorting the few samples is negligible compared to the flush itself.
+   */
+  private long recordFlushLatency(final long latencyNanos) {
+    flushLatencySamples[nextFlushLatencySample] = latencyNanos;
+    nextFlushLatencySample = (nextFlushLatencySample + 1) % FLUSH_LATENCY_SAMPLES;
+    flushLatencySampleCount = Math.min(flushLatencySampleCount + 1, FLUSH_LATENCY_SAMPLES);
+
+    System.arraycopy(flushLatencySamples, 0, sortedFlushLatencies, 0, flushLatencySampleCount);
+    Arrays.sort(sortedFlushLatencies, 0, flushLatencySampleCount);
+    final int percentileIndex =
+        (int) Math.ceil(flushLatencySampleCount * FLUSH_LATENCY_PERCENTILE) - 1;
+    return sortedFlushLatencies[percentileIndex];
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "flushContext="
+        + flushContext
+        + ", targetLatency="
+        + Duration.ofNanos(targetLatencyNanos)
+        + ", expectedFlushLatency="
+        + Duration.ofNanos(expectedFlushLatencyNanos)
+        + '}';
+  }
+}
@@ -27,6 +27,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -193,6 +194,17 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, like {@link #flush()},
+   * and returns a future which is completed once the flush is done. For guarantees, refer to the
+   * configured {@link RaftLogFlusher}.
+   *
+   * @return a future which is completed when the data appended so far is flushed
+   */
+  public CompletableFuture<Void> flushAsync() {
+    return flusher.flushAsync(journal);
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
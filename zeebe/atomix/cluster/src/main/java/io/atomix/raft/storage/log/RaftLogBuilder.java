@@ -126,6 +126,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether records are compressed before they are written to the log. Compression is
+   * transparent to readers and replication, which always see the uncompressed records.
+   *
+   * @param compressRecords true to compress records, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withRecordCompression(final boolean compressRecords) {
+    journalBuilder.withRecordCompression(compressRecords);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
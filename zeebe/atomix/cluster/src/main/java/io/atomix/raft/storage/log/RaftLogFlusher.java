@@ -10,6 +10,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -27,6 +28,12 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} keeps the guarantees of {@link DirectFlusher}, but flushes
+ * asynchronously, coalescing all flush requests which arrive while a flush is in progress into the
+ * next one. Callers which must not proceed before their data is on disk use {@link
+ * #flushAsync(Journal)} to wait for it. You should pick this if many appends are flushed
+ * concurrently, where a single flush per append limits the throughput.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +46,22 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, like {@link #flush(Journal)}, and
+   * returns a future which is completed once any data written before the call is flushed, with the
+   * same guarantees as {@link #flush(Journal)}. The future is completed exceptionally if the flush
+   * failed.
+   *
+   * <p>By default, this calls {@link #flush(Journal)} and returns a completed future.
+   *
+   * @param journal the journal to flush
+   * @return a future which is completed when the data is flushed
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    flush(journal);
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
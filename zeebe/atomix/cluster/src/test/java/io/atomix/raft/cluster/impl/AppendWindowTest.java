@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private final AppendWindow window = new AppendWindow(4);
+
+  @Test
+  void shouldStartWithSingleAppend() {
+    // when
+    window.start(10);
+
+    // then
+    assertThat(window.isOpen()).isFalse();
+    assertThat(window.isEmpty()).isFalse();
+  }
+
+  @Test
+  void shouldGrowUpToMaxSizeOnSuccess() {
+    // when
+    window.onAppendSucceeded();
+    window.onAppendSucceeded();
+    window.onAppendSucceeded();
+
+    // then
+    for (int i = 0; i < 4; i++) {
+      assertThat(window.isOpen()).isTrue();
+      window.start(10);
+    }
+    assertThat(window.isOpen()).isFalse();
+    assertThat(window.utilization()).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldFallBackToSingleAppendOnRejection() {
+    // given
+    window.onAppendSucceeded();
+    window.onAppendSucceeded();
+    window.start(10);
+
+    // when
+    window.onAppendRejected();
+
+    // then
+    assertThat(window.isOpen()).isFalse();
+  }
+
+  @Test
+  void shouldTrackInFlightBytesOfResponsesInAnyOrder() {
+    // given
+    window.onAppendSucceeded();
+    window.start(10);
+    window.start(20);
+
+    // when
+    window.complete(20);
+
+    // then
+    assertThat(window.inFlightCount()).isOne();
+    assertThat(window.inFlightBytes()).isEqualTo(10);
+    assertThat(window.utilization()).isEqualTo(0.25);
+
+    window.complete(10);
+    assertThat(window.isEmpty()).isTrue();
+    assertThat(window.inFlightBytes()).isZero();
+  }
+
+  @Test
+  void shouldReset() {
+    // given
+    window.onAppendSucceeded();
+    window.start(10);
+    window.start(20);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.isEmpty()).isTrue();
+    assertThat(window.inFlightBytes()).isZero();
+    window.start(10);
+    assertThat(window.isOpen()).isFalse();
+  }
+}
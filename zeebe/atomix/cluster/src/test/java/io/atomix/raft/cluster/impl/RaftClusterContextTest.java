@@ -18,6 +18,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.RaftMember.Type;
 import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.storage.system.Configuration;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.Scheduled;
@@ -130,6 +131,8 @@ final class RaftClusterContextTest {
         .noneMatch(member -> context.isMember(member.memberId()))
         .allSatisfy(member -> assertThat(context.getMember(member.memberId())).isNull())
         .allSatisfy(member -> assertThat(context.getMemberContext(member.memberId())).isNull());
+    verify(raft.getReplicationMetrics()).removeAppendWindow("2");
+    verify(raft.getReplicationMetrics()).removeAppendWindow("3");
   }
 
   @Test
@@ -504,6 +507,7 @@ final class RaftClusterContextTest {
     when(raft.getThreadContext()).thenReturn(threadContext);
     when(metaStore.loadConfiguration()).thenReturn(configuration);
     when(raft.getMetaStore()).thenReturn(metaStore);
+    when(raft.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     return raft;
   }
 }
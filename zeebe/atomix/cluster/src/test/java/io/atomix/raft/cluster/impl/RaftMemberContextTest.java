@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.protocol.InstallRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private final RaftMemberContext member =
+      new RaftMemberContext(
+          new DefaultRaftMember(MemberId.from("2"), Type.ACTIVE, Instant.now()),
+          mock(RaftClusterContext.class),
+          2,
+          4);
+
+  @Test
+  void shouldContinueWithNextChunkBeforeAcknowledgement() {
+    // when
+    member.startInstall(installRequest("file1", "file2", false), 10);
+
+    // then
+    assertThat(member.getNextSnapshotChunkToSend()).isEqualTo(chunkId("file2"));
+    assertThat(member.getNextSnapshotChunk()).isNull();
+    assertThat(member.isLastSnapshotChunkSent()).isFalse();
+  }
+
+  @Test
+  void shouldSendMoreChunksAfterAcknowledgement() {
+    // given
+    member.startInstall(installRequest("file1", "file2", false), 10);
+    assertThat(member.canInstall()).isFalse();
+
+    // when
+    member.completeInstall(10);
+    member.installSucceeded();
+
+    // then
+    member.startInstall(installRequest("file2", "file3", false), 10);
+    assertThat(member.canInstall()).isTrue();
+    member.startInstall(installRequest("file3", "file4", false), 10);
+    assertThat(member.canInstall()).isFalse();
+  }
+
+  @Test
+  void shouldRestartFromNextExpectedChunk() {
+    // given
+    member.setNextSnapshotChunkId(chunkId("file2"));
+    final long attempt = member.startInstall(installRequest("file2", "file3", false), 10);
+
+    // when
+    member.restartInstall();
+
+    // then
+    assertThat(member.getNextSnapshotChunkToSend()).isEqualTo(chunkId("file2"));
+    assertThat(member.isCurrentInstallAttempt(attempt)).isFalse();
+  }
+
+  @Test
+  void shouldOnlyAcknowledgeLatestInstall() {
+    // given
+    final long first = member.startInstall(installRequest("file1", "file2", false), 10);
+    final long second = member.startInstall(installRequest("file2", "file3", false), 10);
+
+    // when -- the responses arrive out of order
+    final boolean secondAcknowledged = member.acknowledgeInstall(second);
+    final boolean firstAcknowledged = member.acknowledgeInstall(first);
+
+    // then
+    assertThat(secondAcknowledged).isTrue();
+    assertThat(firstAcknowledged).isFalse();
+  }
+
+  @Test
+  void shouldAcknowledgeInstallOfRestartedAttempt() {
+    // given
+    final long first = member.startInstall(installRequest("file1", "file2", false), 10);
+    member.acknowledgeInstall(first);
+    member.restartInstall();
+
+    // when
+    final long resent = member.startInstall(installRequest("file1", "file2", false), 10);
+
+    // then
+    assertThat(member.isCurrentInstallAttempt(resent)).isTrue();
+    assertThat(member.acknowledgeInstall(resent)).isTrue();
+  }
+
+  @Test
+  void shouldNotSendMoreChunksAfterLastChunk() {
+    // when
+    member.startInstall(installRequest("file1", null, true), 10);
+
+    // then
+    assertThat(member.isLastSnapshotChunkSent()).isTrue();
+  }
+
+  private static InstallRequest installRequest(
+      final String chunk, final String nextChunk, final boolean complete) {
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("1"))
+        .withIndex(1)
+        .withTerm(1)
+        .withData(ByteBuffer.allocate(10))
+        .withChunkId(chunkId(chunk))
+        .withNextChunkId(nextChunk != null ? chunkId(nextChunk) : null)
+        .withComplete(complete)
+        .build();
+  }
+
+  private static ByteBuffer chunkId(final String name) {
+    return ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -20,14 +20,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.MemberId;
 import io.atomix.raft.RaftException.NoLeader;
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.LogCompactor;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
@@ -48,7 +53,10 @@ import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -63,16 +71,18 @@ public class LeaderRoleTest {
   private RaftContext context;
   private RaftLog log;
   private LogCompactor logCompactor;
+  private RaftReplicationMetrics replicationMetrics;
 
   @Before
   public void setup() {
     context = Mockito.mock(RaftContext.class, RETURNS_DEEP_STUBS);
     logCompactor = mock(LogCompactor.class);
+    replicationMetrics = mock(RaftReplicationMetrics.class);
 
     when(context.getName()).thenReturn("leader");
     when(context.getElectionTimeout()).thenReturn(Duration.ofMillis(100));
     when(context.getHeartbeatInterval()).thenReturn(Duration.ofMillis(100));
-    when(context.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(context.getReplicationMetrics()).thenReturn(replicationMetrics);
     when(context.getLogCompactor()).thenReturn(logCompactor);
 
     final SingleThreadContext threadContext = new SingleThreadContext("leader");
@@ -120,6 +130,73 @@ public class LeaderRoleTest {
     assertThat(latch.getCount()).isZero();
   }
 
+  @Test
+  public void shouldCommitOnlyOnceFlushedAsynchronously() throws InterruptedException {
+    // given
+    final var flushed = new CompletableFuture<Void>();
+    when(context.getCluster().isSingleMemberCluster()).thenReturn(true);
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushAsync()).thenReturn(flushed);
+
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+    final CountDownLatch written = new CountDownLatch(1);
+    final CountDownLatch committed = new CountDownLatch(1);
+    final AppendListener listener =
+        new AppendListener() {
+          @Override
+          public void onWrite(final IndexedRaftLogEntry indexed) {
+            written.countDown();
+          }
+
+          @Override
+          public void onCommit(final long index, final long highestPosition) {
+            committed.countDown();
+          }
+        };
+
+    // when
+    leaderRole.appendEntry(0, 1, data, listener);
+
+    // then
+    assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(log, timeout(1000)).flushAsync();
+    assertThat(committed.getCount()).isOne();
+    verify(context, never()).setCommitIndex(1L);
+
+    flushed.complete(null);
+    assertThat(committed.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(context).setCommitIndex(1L);
+  }
+
+  @Test
+  public void shouldNotCommitIfAsynchronousFlushFails() throws InterruptedException {
+    // given
+    final var flushed = new CompletableFuture<Void>();
+    when(context.getCluster().isSingleMemberCluster()).thenReturn(true);
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushAsync()).thenReturn(flushed);
+
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+    final CountDownLatch written = new CountDownLatch(1);
+    final AppendListener listener =
+        new AppendListener() {
+          @Override
+          public void onWrite(final IndexedRaftLogEntry indexed) {
+            written.countDown();
+          }
+        };
+    leaderRole.appendEntry(0, 1, data, listener);
+    assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(log, timeout(1000)).flushAsync();
+
+    // when
+    flushed.completeExceptionally(new IOException("Cannot flush"));
+
+    // then - the failed flush is handled on the raft thread before this no-op
+    CompletableFuture.runAsync(() -> {}, context.getThreadContext()).join();
+    verify(context, never()).setCommitIndex(1L);
+  }
+
   @Test
   public void shouldRetryAppendEntryOnIOException() throws InterruptedException {
     // given
@@ -385,6 +462,21 @@ public class LeaderRoleTest {
     verify(leaderRole.raft, timeout(2000).atLeast(1)).transition(Role.FOLLOWER);
   }
 
+  @Test
+  public void shouldRemoveAppendWindowMetricsOnStop() {
+    // given
+    final RaftMemberContext follower = mock(RaftMemberContext.class);
+    when(follower.getMember())
+        .thenReturn(new DefaultRaftMember(MemberId.from("2"), Type.ACTIVE, Instant.now()));
+    when(context.getCluster().getReplicationTargets()).thenReturn(Set.of(follower));
+
+    // when
+    leaderRole.stop().join();
+
+    // then
+    verify(replicationMetrics).removeAppendWindow("2");
+  }
+
   private record TestIndexedRaftLogEntry(long index, long term, RaftEntry entry)
       implements IndexedRaftLogEntry {
 
@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,25 +26,38 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotId;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -76,6 +91,17 @@ public class PassiveRoleTest {
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
 
     role = new PassiveRole(ctx);
   }
@@ -237,4 +263,139 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldAcknowledgeAppendOnlyOnceFlushedAsynchronously() {
+    // given
+    final var flushed = new CompletableFuture<Void>();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(appendRequest(2)));
+
+    // then
+    assertThat(response).isNotDone();
+
+    flushed.complete(null);
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(response.join().lastLogIndex()).isEqualTo(2);
+    verify(log, never()).flush();
+  }
+
+  @Test
+  public void shouldFailAppendIfAsynchronousFlushFails() {
+    // given
+    final var flushed = new CompletableFuture<Void>();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(appendRequest(2)));
+    flushed.completeExceptionally(new IOException("Cannot flush"));
+
+    // then
+    assertThat(response.join().succeeded()).isFalse();
+    assertThat(response.join().lastLogIndex()).isZero();
+  }
+
+  @Test
+  public void shouldAcknowledgeAlreadyAppliedSnapshotChunk() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("10-1-10-10");
+    role.onInstall(installRequest("10-1-10-10", "file1", "file2", true, false)).join();
+    role.onInstall(installRequest("10-1-10-10", "file2", "file3", false, false)).join();
+    role.onInstall(installRequest("10-1-10-10", "file3", "file4", false, false)).join();
+
+    // when -- the leader resends chunks after it missed the response to an earlier one
+    final var resent =
+        role.onInstall(installRequest("10-1-10-10", "file2", "file3", false, false)).join();
+    final var next =
+        role.onInstall(installRequest("10-1-10-10", "file4", "file5", false, false)).join();
+
+    // then
+    assertThat(resent.status()).isEqualTo(Status.OK);
+    assertThat(next.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, never()).abort();
+    verify(receivedSnapshot, times(4)).apply(any());
+  }
+
+  @Test
+  public void shouldRejectChunkAfterMissingChunk() {
+    // given
+    final var receivedSnapshot = receivedSnapshot("10-1-10-10");
+    role.onInstall(installRequest("10-1-10-10", "file1", "file2", true, false)).join();
+
+    // when
+    final var response =
+        role.onInstall(installRequest("10-1-10-10", "file3", "file4", false, false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot).abort();
+  }
+
+  private ReceivedSnapshot receivedSnapshot(final String snapshotId) {
+    final var id = mock(SnapshotId.class);
+    when(id.getSnapshotIdAsString()).thenReturn(snapshotId);
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.snapshotId()).thenReturn(id);
+    when(receivedSnapshot.index()).thenReturn(10L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    final var store = ctx.getPersistedSnapshotStore();
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(snapshotId);
+    return receivedSnapshot;
+  }
+
+  private InstallRequest installRequest(
+      final String snapshotId,
+      final String chunk,
+      final String nextChunk,
+      final boolean initial,
+      final boolean complete) {
+    final var snapshotChunk = mock(SnapshotChunk.class);
+    when(snapshotChunk.getSnapshotId()).thenReturn(snapshotId);
+    when(snapshotChunk.getTotalCount()).thenReturn(5);
+    when(snapshotChunk.getChunkName()).thenReturn(chunk);
+    when(snapshotChunk.getContent()).thenReturn(new byte[1]);
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(new MemberId("leader"))
+        .withIndex(10)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(snapshotChunk).toByteBuffer())
+        .withChunkId(chunkId(chunk))
+        .withNextChunkId(chunkId(nextChunk))
+        .withInitial(initial)
+        .withComplete(complete)
+        .build();
+  }
+
+  private static ByteBuffer chunkId(final String chunk) {
+    return ByteBuffer.wrap((chunk + "__0").getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private VersionedAppendRequest appendRequest(final int entryCount) {
+    final var entries =
+        LongStream.rangeClosed(1, entryCount)
+            .mapToObj(index -> new ReplicatableJournalRecord(1, index, 1, new byte[1]))
+            .toList();
+    return VersionedAppendRequest.builder()
+        .withTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withPrevLogTerm(0)
+        .withPrevLogIndex(0)
+        .withEntries(entries)
+        .withCommitIndex(entryCount)
+        .build();
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures how the leader builds the append requests of a batch for followers which keep up with
+ * it, such that all of them request the same entries. Every follower reads the entries from the
+ * log, and its request is encoded with the Raft protocol serializer, as it is when it is sent.
+ * Compares sharing the records through the {@link ReplicatableRecordCache} with copying every entry
+ * out of the log per follower, as the leader did before.
+ *
+ * <p>The cache only removes the copies out of the log: the request is still encoded once per
+ * follower. The batches are cycled through such that every batch is evicted from the cache before
+ * it is replicated again, so every operation copies its batch out of the log once. The cache is
+ * replaced when the cycle starts over, since it expects the indexes to grow like a leader's do.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ReplicatableRecordCachePerformanceTest {
+  private static final long TERM = 1;
+  private static final int BATCH_COUNT = 16;
+  private static final int ENTRIES_PER_BATCH = 8;
+  // eight entries make up a batch of the default maximum append batch size of 32 KiB
+  private static final int ENTRY_SIZE = 4 * 1024;
+  private static final int BATCH_SIZE = ENTRIES_PER_BATCH * ENTRY_SIZE;
+  // as the leader appender does, which caches a few batches
+  private static final int CACHED_BATCHES = 4;
+
+  /**
+   * Encoding the request of a follower allocates about one and a half batches, and copying a batch
+   * out of the log allocates one batch. With the cache, the batch is copied once for both
+   * followers, which totals about 4 batches instead of about 5 when copying per follower.
+   */
+  private static final double MAX_ALLOCATED_BATCHES_WITH_CACHE = 4.25;
+
+  @Param({"cached", "copy"})
+  public String implementation;
+
+  @Param({"2", "4"})
+  public int followers;
+
+  private final Serializer serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+  private Path directory;
+  private RaftLog log;
+  private RaftLogReader[] readers;
+  private ReplicatableRecordCache cache;
+  private int nextBatch;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("raft-log");
+    log =
+        RaftLog.builder()
+            .withDirectory(directory.toFile())
+            .withName("benchmark")
+            .withMetaStore(new InMemory())
+            .build();
+
+    long position = 1;
+    for (int i = 0; i < BATCH_COUNT * ENTRIES_PER_BATCH; i++) {
+      final var data = ByteBuffer.allocate(ENTRY_SIZE);
+      log.append(new RaftLogEntry(TERM, new SerializedApplicationEntry(position, position, data)));
+      position++;
+    }
+
+    readers = new RaftLogReader[followers];
+    for (int i = 0; i < followers; i++) {
+      readers[i] = log.openUncommittedReader();
+    }
+    cache = new ReplicatableRecordCache((long) CACHED_BATCHES * BATCH_SIZE);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    for (final var reader : readers) {
+      reader.close();
+    }
+    log.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void measureAppendRequests(final Blackhole blackhole) {
+    final long firstIndex = (long) nextBatch * ENTRIES_PER_BATCH + 1;
+    final long lastIndex = firstIndex + ENTRIES_PER_BATCH - 1;
+    nextBatch = (nextBatch + 1) % BATCH_COUNT;
+    if (nextBatch == 0) {
+      // the indexes of a leader only grow, so start over as a new leader with an empty cache
+      cache = new ReplicatableRecordCache((long) CACHED_BATCHES * BATCH_SIZE);
+    }
+
+    for (final var reader : readers) {
+      reader.seek(firstIndex);
+      final var entries = new ArrayList<ReplicatableJournalRecord>(ENTRIES_PER_BATCH);
+      for (int i = 0; i < ENTRIES_PER_BATCH; i++) {
+        final var entry = reader.next();
+        entries.add(
+            switch (implementation) {
+              case "cached" -> cache.get(entry);
+              case "copy" -> entry.getReplicatableJournalRecord();
+              default ->
+                  throw new IllegalArgumentException("Unknown implementation " + implementation);
+            });
+      }
+
+      final var request =
+          new VersionedAppendRequest(2, TERM, "0", firstIndex - 1, TERM, entries, lastIndex);
+      blackhole.consume(serializer.encode(request));
+    }
+  }
+
+  @JMHTest("measureAppendRequests")
+  void shouldCopyBatchOnceForAllFollowers(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        options ->
+            options
+                .addProfiler(GCProfiler.class)
+                .param("implementation", "cached")
+                .param("followers", "2"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost(
+        "gc.alloc.rate.norm", MAX_ALLOCATED_BATCHES_WITH_CACHE * BATCH_SIZE);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableRecordCacheTest {
+
+  private static final int RECORD_SIZE = 100;
+
+  @Test
+  void shouldCopyEntryOnlyOnce() {
+    // given
+    final var cache = new ReplicatableRecordCache(10 * recordSize());
+    final var entry = entry(1, 1);
+
+    // when
+    final var first = cache.get(entry);
+    final var second = cache.get(entry);
+
+    // then
+    assertThat(second).isSameAs(first);
+    verify(entry, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotReturnRecordOfOtherTerm() {
+    // given
+    final var cache = new ReplicatableRecordCache(10 * recordSize());
+    cache.get(entry(1, 1));
+    final var entryOfNewTerm = entry(1, 2);
+
+    // when
+    final var record = cache.get(entryOfNewTerm);
+
+    // then
+    assertThat(record.term()).isEqualTo(2);
+    verify(entryOfNewTerm, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldEvictOldestRecordsWhenExceedingMaxCachedBytes() {
+    // given
+    final var cache = new ReplicatableRecordCache(2 * recordSize());
+    final var oldestEntry = entry(1, 1);
+    final var olderEntry = entry(2, 1);
+    cache.get(oldestEntry);
+    cache.get(olderEntry);
+    final var entryBeyondLimit = entry(3, 1);
+
+    // when
+    cache.get(entryBeyondLimit);
+    cache.get(entryBeyondLimit);
+    cache.get(olderEntry);
+    cache.get(oldestEntry);
+
+    // then
+    verify(entryBeyondLimit, times(1)).getReplicatableJournalRecord();
+    verify(olderEntry, times(1)).getReplicatableJournalRecord();
+    verify(oldestEntry, times(2)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotEvictRecentRecordsForOlderRecord() {
+    // given
+    final var cache = new ReplicatableRecordCache(2 * recordSize());
+    final var recentEntry = entry(10, 1);
+    final var newestEntry = entry(11, 1);
+    cache.get(recentEntry);
+    cache.get(newestEntry);
+    final var laggingEntry = entry(5, 1);
+
+    // when
+    cache.get(laggingEntry);
+    cache.get(laggingEntry);
+    cache.get(recentEntry);
+    cache.get(newestEntry);
+
+    // then
+    verify(laggingEntry, times(2)).getReplicatableJournalRecord();
+    verify(recentEntry, times(1)).getReplicatableJournalRecord();
+    verify(newestEntry, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldKeepCachingRecentRecordsOnceFull() {
+    // given
+    final var cache = new ReplicatableRecordCache(3 * recordSize());
+    for (long index = 1; index <= 100; index++) {
+      cache.get(entry(index, 1));
+    }
+
+    // when
+    final var newestEntry = entry(101, 1);
+    cache.get(newestEntry);
+    cache.get(newestEntry);
+
+    // then
+    verify(newestEntry, times(1)).getReplicatableJournalRecord();
+
+    final var evictedEntry = entry(98, 1);
+    final var cachedEntry = entry(99, 1);
+    cache.get(evictedEntry);
+    cache.get(cachedEntry);
+    verify(evictedEntry, times(1)).getReplicatableJournalRecord();
+    verify(cachedEntry, never()).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldReplaceRecordInSameSlot() {
+    // given
+    final var cache = new ReplicatableRecordCache(recordSize());
+    cache.get(entry(1, 1));
+    final var entryInSameSlot = entry(1025, 1);
+
+    // when
+    cache.get(entryInSameSlot);
+    cache.get(entryInSameSlot);
+
+    // then
+    verify(entryInSameSlot, times(1)).getReplicatableJournalRecord();
+  }
+
+  private static long recordSize() {
+    return new ReplicatableJournalRecord(1, 1, 1, new byte[RECORD_SIZE]).approximateSize();
+  }
+
+  private static IndexedRaftLogEntry entry(final long index, final long term) {
+    final var entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(index);
+    when(entry.term()).thenReturn(term);
+    when(entry.getReplicatableJournalRecord())
+        .thenAnswer(
+            invocation -> new ReplicatableJournalRecord(term, index, 1, new byte[RECORD_SIZE]));
+    return entry;
+  }
+}
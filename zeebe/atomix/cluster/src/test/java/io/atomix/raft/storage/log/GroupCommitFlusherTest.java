@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.CloseHelper;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final DeterministicScheduler scheduler = new DeterministicScheduler();
+  private final Journal journal = Mockito.mock(Journal.class);
+  private GroupCommitFlusher flusher = createFlusher(Duration.ZERO);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushAsynchronously() {
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(flushed).isNotDone();
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    scheduler.runUntilIdle();
+    assertThat(flushed).isCompleted();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldCoalescePendingRequests() {
+    // when
+    final var first = flusher.flushAsync(journal);
+    final var second = flusher.flushAsync(journal);
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushRequestsArrivingDuringFlushInNextFlush() {
+    // given
+    final AtomicReference<CompletableFuture<Void>> requestedDuringFlush = new AtomicReference<>();
+    Mockito.doAnswer(
+            invocation -> {
+              if (requestedDuringFlush.get() == null) {
+                requestedDuringFlush.set(flusher.flushAsync(journal));
+              }
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(flushed).isCompleted();
+    assertThat(requestedDuringFlush.get()).isCompleted();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldDelayFlushUpToTargetLatency() {
+    // given
+    flusher.close();
+    flusher = createFlusher(Duration.ofSeconds(10));
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(flushed).isNotDone();
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    scheduler.tick(10, TimeUnit.SECONDS);
+    assertThat(flushed).isCompleted();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFailRequestsIfFlushFails() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot flush")))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    final var failed = flusher.flushAsync(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(failed).isCompletedExceptionally();
+
+    final var retried = flusher.flushAsync(journal);
+    scheduler.runUntilIdle();
+    assertThat(retried).isCompleted();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldFailPendingRequestsOnClose() {
+    // given
+    final var pending = flusher.flushAsync(journal);
+
+    // when
+    flusher.close();
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(pending).isCompletedExceptionally();
+    assertThat(flusher.flushAsync(journal)).isCompletedExceptionally();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  private GroupCommitFlusher createFlusher(final Duration targetLatency) {
+    return new GroupCommitFlusher(
+        new DeterministicSingleThreadContext(scheduler),
+        targetLatency,
+        new RaftLogFlushMetrics("raft-partition-1"));
+  }
+}
@@ -18,6 +18,7 @@ import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
@@ -33,6 +34,8 @@ final class ExporterContainer implements Controller {
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
 
+  private static final Duration INITIAL_BACK_OFF = Duration.ofSeconds(1);
+
   private static final String SKIP_POSITION_UPDATE_ERROR_MESSAGE =
       "Failed to update exporter position when skipping filtered record, can be skipped, but may indicate an issue if it occurs often";
 
@@ -47,6 +50,10 @@ final class ExporterContainer implements Controller {
   private ExporterMetrics metrics;
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
+  // sequence number of the next record in the director's record cache to pass to this exporter
+  private long cursor;
+  private Duration backOff;
+  private ScheduledTimer backOffTimer;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
@@ -203,6 +210,50 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
+  long getCursor() {
+    return cursor;
+  }
+
+  void moveCursorTo(final long sequence) {
+    cursor = sequence;
+  }
+
+  /**
+   * @return true if the exporter failed to export the last record, and waits before retrying it
+   */
+  boolean isBackingOff() {
+    return backOffTimer != null;
+  }
+
+  /**
+   * Waits before retrying to export the record which the exporter failed to export. The delay
+   * doubles with every consecutive failure, up to the given maximum, and is reset by {@link
+   * #resetBackOff()}. Other exporters are not affected, and continue to export in the meantime.
+   *
+   * @param maxBackOff the maximum delay between two attempts
+   * @param onRetry called once the exporter should retry
+   */
+  void backOff(final Duration maxBackOff, final Runnable onRetry) {
+    if (backOff == null) {
+      backOff = INITIAL_BACK_OFF;
+    } else {
+      final var nextBackOff = backOff.multipliedBy(2);
+      backOff = nextBackOff.compareTo(maxBackOff) < 0 ? nextBackOff : maxBackOff;
+    }
+
+    backOffTimer =
+        actor.schedule(
+            backOff,
+            () -> {
+              backOffTimer = null;
+              onRetry.run();
+            });
+  }
+
+  void resetBackOff() {
+    backOff = null;
+  }
+
   private boolean acceptRecord(final RecordMetadata metadata) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
@@ -247,6 +298,11 @@ final class ExporterContainer implements Controller {
   }
 
   public void close() {
+    if (backOffTimer != null) {
+      backOffTimer.cancel();
+      backOffTimer = null;
+    }
+
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
           exporter::close, exporter.getClass().getClassLoader());
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
+import io.camunda.zeebe.broker.exporter.stream.RecordCache.CachedRecord;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.exporter.api.context.Context;
@@ -27,8 +28,6 @@ import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -50,13 +49,22 @@ import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
+/**
+ * Reads the log of a partition and passes its records to all configured exporters.
+ *
+ * <p>The log is read once for all exporters: records are read ahead into a shared {@link
+ * RecordCache}, where they are decoded once, and each exporter consumes them at its own pace via
+ * its own cursor. An exporter which fails to export a record backs off and retries on its own,
+ * while the other exporters continue. The capacity of the cache bounds how far the fastest exporter
+ * may get ahead of the slowest one, after which the director stops reading until the slowest
+ * exporter catches up.
+ */
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration MAX_EXPORT_BACK_OFF = Duration.ofSeconds(10);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -65,11 +73,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final ArrayList<ExporterContainer> containers;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
+  private final RecordCache recordCache;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
@@ -78,7 +85,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
+  private boolean exportScheduled;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -115,9 +122,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    recordExporter = new RecordExporter(metrics);
+    recordCache =
+        new RecordCache(
+            partitionId, context.getMaxExporterLead(), context.getMaxExporterLeadSize());
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -128,7 +136,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
-    return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
+    return actorSchedulingService.submitActor(this, SchedulingHints.exporter());
   }
 
   public ActorFuture<Void> stopAsync() {
@@ -200,7 +208,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            scheduleExport();
           }
         });
   }
@@ -233,13 +241,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
       becomeIdle();
+    } else {
+      // the removed exporter may have been the slowest one, holding back the others
+      releaseExportedRecords();
+      scheduleExport();
     }
   }
 
@@ -324,6 +333,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
+    // the new exporter starts with the oldest record which is still cached; any older records were
+    // read before it was enabled
+    container.moveCursorTo(recordCache.tail());
     containers.add(container);
     LOG.debug("Exporter '{}' is enabled.", exporterId);
 
@@ -506,6 +518,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
       logStreamReader = null;
     }
+    recordCache.clear();
   }
 
   private void becomeLive() {
@@ -564,11 +577,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       throw new IllegalStateException(
           String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
     }
-    logStream.registerRecordAvailableListener(this);
-    if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+    recordCache.clear();
+    for (final ExporterContainer container : containers) {
+      container.moveCursorTo(recordCache.head());
     }
 
+    logStream.registerRecordAvailableListener(this);
+    scheduleExport();
+
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -599,30 +615,85 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
+  private void scheduleExport() {
+    if (!exportScheduled) {
+      exportScheduled = true;
+      actor.submit(this::exportRecords);
+    }
+  }
+
+  /**
+   * Reads ahead as far as the record cache allows, and then passes the next record to each exporter
+   * which is not backing off. Exports a single record per exporter at a time, so that other jobs of
+   * the actor, e.g. position updates, are not delayed.
+   */
+  private void exportRecords() {
+    exportScheduled = false;
+    if (!shouldExport()) {
+      return;
+    }
 
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
+    readRecords();
 
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
+    boolean exported = false;
     for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+      exported |= exportNextRecord(container);
+    }
+
+    releaseExportedRecords();
+
+    if (exported || (!recordCache.isFull() && logStreamReader.hasNext())) {
+      scheduleExport();
+    }
+  }
+
+  private void readRecords() {
+    while (!recordCache.isFull() && logStreamReader.hasNext()) {
+      final LoggedEvent event = logStreamReader.next();
+      final boolean skipped = eventFilter != null && !eventFilter.applies(event);
+      final CachedRecord cachedRecord = recordCache.add(event, skipped);
+      if (!cachedRecord.isSkipped()) {
+        // exporting latency tracks the time from the record being written until it is read for the
+        // exporters; it is observed once per record, no matter how many exporters there are or how
+        // often they retry it, such that it is independent of the exporter configuration
+        final var record = cachedRecord.getRecord();
+        metrics.exportingLatency(record.getValueType(), record.getTimestamp(), clock.millis());
+      }
+    }
+  }
+
+  private boolean exportNextRecord(final ExporterContainer container) {
+    final long cursor = container.getCursor();
+    if (container.isBackingOff() || cursor >= recordCache.head()) {
+      return false;
     }
 
-    actor.submit(this::readNextEvent);
+    if (recordExporter.export(container, recordCache.get(cursor))) {
+      container.moveCursorTo(cursor + 1);
+      container.resetBackOff();
+      return true;
+    }
+
+    // retry the same record later, without holding back the other exporters
+    container.backOff(MAX_EXPORT_BACK_OFF, this::scheduleExport);
+    return false;
   }
 
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+  /** Releases the records which all exporters passed, freeing space to read more records. */
+  private void releaseExportedRecords() {
+    long slowestCursor = recordCache.head();
+    for (final ExporterContainer container : containers) {
+      slowestCursor = Math.min(slowestCursor, container.getCursor());
+    }
+
+    while (recordCache.tail() < slowestCursor) {
+      final CachedRecord released = recordCache.release();
+      final ValueType valueType = released.getMetadata().getValueType();
+      if (released.isSkipped()) {
+        metrics.eventSkipped(valueType);
       } else {
-        skipRecord(currentEvent);
+        logStream.getFlowControl().onExported(released.getPosition());
+        metrics.eventExported(valueType);
       }
     }
   }
@@ -630,46 +701,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private boolean shouldExport() {
     return isOpened.get()
         && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
+        && logStreamReader != null
         && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
-  }
-
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -706,7 +741,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(this::scheduleExport);
   }
 
   public ActorFuture<Long> getLowestPosition() {
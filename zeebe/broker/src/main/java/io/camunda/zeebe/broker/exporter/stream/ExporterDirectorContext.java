@@ -21,6 +21,8 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_EXPORTER_LEAD = 1024;
+  public static final long DEFAULT_MAX_EXPORTER_LEAD_SIZE = 16 * 1024 * 1024;
 
   private int id;
   private String name;
@@ -30,6 +32,8 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private int maxExporterLead = DEFAULT_MAX_EXPORTER_LEAD;
+  private long maxExporterLeadSize = DEFAULT_MAX_EXPORTER_LEAD_SIZE;
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
@@ -66,6 +70,14 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public int getMaxExporterLead() {
+    return maxExporterLead;
+  }
+
+  public long getMaxExporterLeadSize() {
+    return maxExporterLeadSize;
+  }
+
   public EventFilter getPositionsToSkipFilter() {
     return positionsToSkipFilter;
   }
@@ -125,6 +137,23 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param maxExporterLead how many records the fastest exporter may be ahead of the slowest one
+   */
+  public ExporterDirectorContext maxExporterLead(final int maxExporterLead) {
+    this.maxExporterLead = maxExporterLead;
+    return this;
+  }
+
+  /**
+   * @param maxExporterLeadSize how many bytes of records the fastest exporter may be ahead of the
+   *     slowest one; a single record is always read, no matter how big it is
+   */
+  public ExporterDirectorContext maxExporterLeadSize(final long maxExporterLeadSize) {
+    this.maxExporterLeadSize = maxExporterLeadSize;
+    return this;
+  }
+
   public ExporterDirectorContext positionsToSkipFilter(final EventFilter skipPositionsFilter) {
     positionsToSkipFilter = skipPositionsFilter;
     return this;
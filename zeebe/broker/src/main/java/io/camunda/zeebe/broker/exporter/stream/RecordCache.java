@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * A bounded window of records which were read from the log, shared by all exporters of a partition.
+ * Every record is read and decoded once, and then handed to each exporter at its own pace, as
+ * tracked by the exporter's cursor. A record is released once all exporters passed it.
+ *
+ * <p>Records are addressed by a sequence number, which increases by one with every added record.
+ * The capacity bounds how far the fastest exporter can get ahead of the slowest one, in number of
+ * records as well as in bytes. The byte limit is soft: a single record is always accepted, no
+ * matter how big it is.
+ *
+ * <p>The memory which the cache holds on to is bounded by the byte limit as well. Buffers grow past
+ * the length of their records, so the buffers of all slots may retain up to {@link
+ * #RETAINED_BYTES_FACTOR} times the byte limit; beyond that, the buffers of released records are
+ * dropped. Decoded values are shared between the slots through a pool per value type, which keeps
+ * at most {@link #MAX_IDLE_VALUES} values of each type.
+ */
+final class RecordCache {
+
+  private static final int RETAINED_BYTES_FACTOR = 2;
+  private static final int MAX_IDLE_VALUES = 16;
+
+  private final CachedRecord[] records;
+  private final Map<ValueType, Deque<UnifiedRecordValue>> idleValues =
+      new EnumMap<>(ValueType.class);
+  private final long maxBytes;
+  private long head;
+  private long tail;
+  private long bytes;
+  private long retainedBytes;
+
+  RecordCache(final int partitionId, final int capacity, final long maxBytes) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be at least 1, but was %d".formatted(capacity));
+    }
+
+    records = new CachedRecord[capacity];
+    for (int i = 0; i < capacity; i++) {
+      records[i] = new CachedRecord(partitionId);
+    }
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @return the sequence number of the next record to be added
+   */
+  long head() {
+    return head;
+  }
+
+  /**
+   * @return the sequence number of the oldest record which is still cached
+   */
+  long tail() {
+    return tail;
+  }
+
+  boolean isEmpty() {
+    return head == tail;
+  }
+
+  boolean isFull() {
+    return head - tail == records.length || (!isEmpty() && bytes >= maxBytes);
+  }
+
+  /**
+   * Copies the given event into the cache, and decodes it unless it is skipped.
+   *
+   * @param event the event to add, which is only valid until the log reader moves on
+   * @param skipped true if no exporter should receive the event
+   * @return the cached record, which is valid until it is released
+   */
+  CachedRecord add(final LoggedEvent event, final boolean skipped) {
+    if (isFull()) {
+      throw new IllegalStateException(
+          "Expected to add record at position %d, but the cache is full"
+              .formatted(event.getPosition()));
+    }
+
+    final var record = records[index(head)];
+    record.wrap(event, skipped);
+    bytes += record.getLength();
+    head++;
+    return record;
+  }
+
+  /**
+   * @param sequence the sequence number of the record
+   * @return the cached record, which is valid until it is released
+   */
+  CachedRecord get(final long sequence) {
+    if (sequence < tail || sequence >= head) {
+      throw new NoSuchElementException(
+          "Expected to get record %d, but only records [%d, %d) are cached"
+              .formatted(sequence, tail, head));
+    }
+
+    return records[index(sequence)];
+  }
+
+  /**
+   * Releases the oldest record. The returned record is valid until the next record is added.
+   *
+   * @return the released record
+   */
+  CachedRecord release() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Expected to release a record, but the cache is empty");
+    }
+
+    final var record = records[index(tail)];
+    record.release();
+    bytes -= record.getLength();
+    tail++;
+    return record;
+  }
+
+  /** Drops all records, and continues numbering them at the current head. */
+  void clear() {
+    while (!isEmpty()) {
+      release();
+    }
+  }
+
+  /**
+   * @return the capacity of all buffers which are held on to by the cache, in bytes
+   */
+  long retainedBytes() {
+    return retainedBytes;
+  }
+
+  private int index(final long sequence) {
+    return (int) (sequence % records.length);
+  }
+
+  final class CachedRecord {
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final TypedRecordImpl record;
+    // null while the buffer is dropped, until the slot is used again
+    private MutableDirectBuffer buffer;
+    private UnifiedRecordValue value;
+    private int length;
+    private boolean skipped;
+
+    private CachedRecord(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private void wrap(final LoggedEvent source, final boolean skipped) {
+      if (buffer == null) {
+        buffer = new ExpandableArrayBuffer();
+        retainedBytes += buffer.capacity();
+      }
+
+      final int capacity = buffer.capacity();
+      length = source.getLength();
+      source.write(buffer, 0);
+      retainedBytes += buffer.capacity() - capacity;
+      event.wrap(buffer, 0);
+      event.readMetadata(metadata);
+
+      value = skipped ? null : readValue(metadata.getValueType());
+      record.wrap(event, metadata, value);
+      // records without a known value can't be exported, so they are skipped as well
+      this.skipped = value == null;
+    }
+
+    private UnifiedRecordValue readValue(final ValueType valueType) {
+      final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+      if (valueClass == null) {
+        return null;
+      }
+
+      final var idle = idleValues.get(valueType);
+      final var value =
+          idle == null || idle.isEmpty() ? ReflectUtil.newInstance(valueClass) : idle.pop();
+      value.reset();
+      event.readValue(value);
+      return value;
+    }
+
+    /**
+     * Hands the value and, if the cache retains too much, the buffer back. Both stay untouched
+     * until the next record is added, so the released record remains readable until then.
+     */
+    private void release() {
+      if (value != null) {
+        final var idle =
+            idleValues.computeIfAbsent(metadata.getValueType(), type -> new ArrayDeque<>());
+        if (idle.size() < MAX_IDLE_VALUES) {
+          idle.push(value);
+        }
+        value = null;
+      }
+
+      if (buffer != null && retainedBytes / RETAINED_BYTES_FACTOR > maxBytes) {
+        retainedBytes -= buffer.capacity();
+        buffer = null;
+      }
+    }
+
+    long getPosition() {
+      return event.getPosition();
+    }
+
+    int getLength() {
+      return length;
+    }
+
+    /**
+     * @return true if the record is not exported, e.g. because no exporter accepts it
+     */
+    boolean isSkipped() {
+      return skipped;
+    }
+
+    RecordMetadata getMetadata() {
+      return metadata;
+    }
+
+    TypedRecordImpl getRecord() {
+      return record;
+    }
+  }
+}
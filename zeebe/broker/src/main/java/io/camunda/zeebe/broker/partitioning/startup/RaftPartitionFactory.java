@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.broker.partitioning.startup;
 
+import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -73,12 +76,15 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            partitionMetadata.id()));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setCompressRecords(brokerCfg.getExperimental().getRaft().isCompressRecords());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -95,6 +101,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -108,16 +116,27 @@ public final class RaftPartitionFactory {
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config, final ExperimentalCfg experimental, final PartitionId partitionId) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(
+          new FlushConfig(false, Duration.ZERO, false, Duration.ZERO), partitionId);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, partitionId);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final PartitionId partitionId) {
+    if (config.enabled() && config.groupCommit()) {
+      final Duration targetLatency = config.targetLatency();
+      final String partitionName =
+          "%s-partition-%d".formatted(partitionId.group(), partitionId.id());
+      return threadFactory ->
+          new GroupCommitFlusher(
+              threadFactory.createContext(), targetLatency, new RaftLogFlushMetrics(partitionName));
+    }
+
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext;
 import java.util.Objects;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
@@ -16,6 +18,22 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private int maxExporterLead = ExporterDirectorContext.DEFAULT_MAX_EXPORTER_LEAD;
+  private DataSize maxExporterLeadSize =
+      DataSize.ofBytes(ExporterDirectorContext.DEFAULT_MAX_EXPORTER_LEAD_SIZE);
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxExporterLead < 1) {
+      throw new IllegalArgumentException(
+          "maxExporterLead must be at least 1, but was %d".formatted(maxExporterLead));
+    }
+
+    if (maxExporterLeadSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "maxExporterLeadSize must be at least 1 byte, but was %s".formatted(maxExporterLeadSize));
+    }
+  }
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +43,25 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public int getMaxExporterLead() {
+    return maxExporterLead;
+  }
+
+  public void setMaxExporterLead(final int maxExporterLead) {
+    this.maxExporterLead = maxExporterLead;
+  }
+
+  public DataSize getMaxExporterLeadSize() {
+    return maxExporterLeadSize;
+  }
+
+  public void setMaxExporterLeadSize(final DataSize maxExporterLeadSize) {
+    this.maxExporterLeadSize = maxExporterLeadSize;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, maxExporterLead, maxExporterLeadSize);
   }
 
   @Override
@@ -39,11 +73,20 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return maxExporterLead == that.maxExporterLead
+        && Objects.equals(skipRecords, that.skipRecords)
+        && Objects.equals(maxExporterLeadSize, that.maxExporterLeadSize);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", maxExporterLead="
+        + maxExporterLead
+        + ", maxExporterLeadSize="
+        + maxExporterLeadSize
+        + '}';
   }
 }
@@ -9,6 +9,10 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +32,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableDeletionTriggeredCompaction =
+      RocksDbConfiguration.DEFAULT_DELETION_TRIGGERED_COMPACTION_ENABLED;
+  private boolean enableWriteBatchTransactions =
+      RocksDbConfiguration.DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
+  private List<String> cachedColumnFamilies = List.of();
+  private int columnFamilyCacheSize = RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +49,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    validateCachedColumnFamilies();
+  }
+
+  private void validateCachedColumnFamilies() {
+    if (columnFamilyCacheSize < 0) {
+      throw new IllegalArgumentException(
+          "columnFamilyCacheSize must be >= 0 but was %s".formatted(columnFamilyCacheSize));
+    }
+
+    for (final var columnFamily : cachedColumnFamilies) {
+      if (Arrays.stream(ZbColumnFamilies.values()).noneMatch(c -> c.name().equals(columnFamily))) {
+        throw new IllegalArgumentException(
+            "cachedColumnFamilies contains unknown column family '%s', expected one of %s"
+                .formatted(columnFamily, Arrays.toString(ZbColumnFamilies.values())));
+      }
+    }
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +148,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableDeletionTriggeredCompaction() {
+    return enableDeletionTriggeredCompaction;
+  }
+
+  public void setEnableDeletionTriggeredCompaction(
+      final boolean enableDeletionTriggeredCompaction) {
+    this.enableDeletionTriggeredCompaction = enableDeletionTriggeredCompaction;
+  }
+
+  public boolean isEnableWriteBatchTransactions() {
+    return enableWriteBatchTransactions;
+  }
+
+  public void setEnableWriteBatchTransactions(final boolean enableWriteBatchTransactions) {
+    this.enableWriteBatchTransactions = enableWriteBatchTransactions;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -129,6 +173,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public List<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final List<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public int getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final int columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -139,7 +199,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDeletionTriggeredCompactionEnabled(enableDeletionTriggeredCompaction)
+        .setWriteBatchTransactionsEnabled(enableWriteBatchTransactions)
+        .setCachedColumnFamilies(new HashSet<>(cachedColumnFamilies))
+        .setColumnFamilyCacheSize(columnFamilyCacheSize);
   }
 
   @Override
@@ -165,6 +229,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableDeletionTriggeredCompaction="
+        + enableDeletionTriggeredCompaction
+        + ", enableWriteBatchTransactions="
+        + enableWriteBatchTransactions
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
         + '}';
   }
 
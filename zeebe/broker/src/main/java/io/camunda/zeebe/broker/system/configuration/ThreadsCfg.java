@@ -10,6 +10,15 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int exporterThreadCount = 0;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (exporterThreadCount < 0) {
+      throw new IllegalArgumentException(
+          "exporterThreadCount must not be negative, but was %d".formatted(exporterThreadCount));
+    }
+  }
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +36,14 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getExporterThreadCount() {
+    return exporterThreadCount;
+  }
+
+  public void setExporterThreadCount(final int exporterThreads) {
+    exporterThreadCount = exporterThreads;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +51,8 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", exporterThreadCount="
+        + exporterThreadCount
         + '}';
   }
 }
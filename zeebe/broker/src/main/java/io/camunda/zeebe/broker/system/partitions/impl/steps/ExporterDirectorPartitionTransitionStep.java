@@ -125,6 +125,12 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
             .meterRegistry(context.getPartitionMeterRegistry());
+    if (context.getBrokerCfg() != null) {
+      final var exportingCfg = context.getBrokerCfg().getExporting();
+      exporterCtx
+          .maxExporterLead(exportingCfg.getMaxExporterLead())
+          .maxExporterLeadSize(exportingCfg.getMaxExporterLeadSize().toBytes());
+    }
 
     final ExporterDirector director =
         exporterDirectorBuilder.apply(exporterCtx, context.getExporterPhase());
@@ -455,6 +455,32 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldContinueExportingToOtherExportersWhileRetrying() {
+    // given
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              throw new RuntimeException("Export failed (expected)");
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.impl.log.SequencedBatch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RecordCacheTest {
+
+  private static final int PARTITION_ID = 1;
+
+  @Test
+  void shouldDecodeAddedRecord() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+
+    // when
+    cache.add(event(1, "a"), false);
+
+    // then
+    final var cached = cache.get(0);
+    assertThat(cached.isSkipped()).isFalse();
+    assertThat(cached.getPosition()).isEqualTo(1);
+    assertThat(cached.getMetadata().getValueType()).isEqualTo(ValueType.VARIABLE);
+    assertThat(cached.getRecord().getPartitionId()).isEqualTo(PARTITION_ID);
+    assertThat(((VariableRecordValue) cached.getRecord().getValue()).getName()).isEqualTo("a");
+  }
+
+  @Test
+  void shouldKeepRecordsIndependentOfEachOther() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+
+    // when
+    cache.add(event(1, "a"), false);
+    cache.add(event(2, "b"), false);
+
+    // then
+    assertThat(((VariableRecordValue) cache.get(0).getRecord().getValue()).getName())
+        .isEqualTo("a");
+    assertThat(((VariableRecordValue) cache.get(1).getRecord().getValue()).getName())
+        .isEqualTo("b");
+  }
+
+  @Test
+  void shouldNotDecodeSkippedRecord() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 1, Long.MAX_VALUE);
+
+    // when
+    final var cached = cache.add(event(1, "a"), true);
+
+    // then
+    assertThat(cached.isSkipped()).isTrue();
+    assertThat(cached.getPosition()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldBeFullWhenCapacityIsReached() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+
+    // when
+    cache.add(event(1, "a"), false);
+    cache.add(event(2, "b"), false);
+
+    // then
+    assertThat(cache.isFull()).isTrue();
+    assertThatThrownBy(() -> cache.add(event(3, "c"), false))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldBeFullWhenMaxBytesAreReached() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 8, 1);
+
+    // when
+    cache.add(event(1, "a"), false);
+
+    // then
+    assertThat(cache.isFull()).isTrue();
+  }
+
+  @Test
+  void shouldReuseSlotsAfterRelease() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+    cache.add(event(1, "a"), false);
+    cache.add(event(2, "b"), false);
+
+    // when
+    final var releasedPosition = cache.release().getPosition();
+    cache.add(event(3, "c"), false);
+
+    // then
+    assertThat(releasedPosition).isEqualTo(1);
+    assertThat(cache.tail()).isEqualTo(1);
+    assertThat(cache.head()).isEqualTo(3);
+    assertThat(cache.get(1).getPosition()).isEqualTo(2);
+    assertThat(cache.get(2).getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotGetReleasedRecord() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+    cache.add(event(1, "a"), false);
+
+    // when
+    cache.release();
+
+    // then
+    assertThat(cache.isEmpty()).isTrue();
+    assertThatThrownBy(() -> cache.get(0)).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void shouldContinueSequenceAfterClear() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+    cache.add(event(1, "a"), false);
+    cache.add(event(2, "b"), false);
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.isEmpty()).isTrue();
+    assertThat(cache.isFull()).isFalse();
+    assertThat(cache.tail()).isEqualTo(2);
+    assertThat(cache.head()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReuseValueOfReleasedRecord() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+    final var releasedValue = cache.add(event(1, "a"), false).getRecord().getValue();
+    cache.release();
+
+    // when
+    final var value = cache.add(event(2, "b"), false).getRecord().getValue();
+
+    // then
+    assertThat(value).isSameAs(releasedValue);
+    assertThat(((VariableRecordValue) value).getName()).isEqualTo("b");
+  }
+
+  @Test
+  void shouldRetainBuffersWithinByteBudget() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, Long.MAX_VALUE);
+    cache.add(event(1, "a"), false);
+    final var retainedBytes = cache.retainedBytes();
+
+    // when
+    cache.release();
+
+    // then
+    assertThat(retainedBytes).isPositive();
+    assertThat(cache.retainedBytes()).isEqualTo(retainedBytes);
+  }
+
+  @Test
+  void shouldDropBuffersOfReleasedRecordsBeyondByteBudget() {
+    // given
+    final var cache = new RecordCache(PARTITION_ID, 2, 1);
+    final var released = cache.add(event(1, "a"), false);
+
+    // when
+    cache.release();
+
+    // then
+    assertThat(cache.retainedBytes()).isZero();
+    assertThat(released.getPosition()).isEqualTo(1);
+    assertThat(cache.add(event(2, "b"), false).getPosition()).isEqualTo(2);
+    assertThat(cache.retainedBytes()).isPositive();
+  }
+
+  @Test
+  void shouldRejectEmptyCapacity() {
+    assertThatThrownBy(() -> new RecordCache(PARTITION_ID, 0, Long.MAX_VALUE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static LoggedEvent event(final long position, final String name) {
+    final var value =
+        new VariableRecord()
+            .setName(wrapString(name))
+            .setValue(MsgPackUtil.asMsgPack("value", 1))
+            .setScopeKey(position)
+            .setProcessInstanceKey(position)
+            .setProcessDefinitionKey(position)
+            .setBpmnProcessId(wrapString("process"));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.VARIABLE)
+            .intent(VariableIntent.CREATED);
+    final var entry =
+        TestEntry.builder()
+            .withKey(position)
+            .withRecordValue(value)
+            .withRecordMetadata(metadata)
+            .build();
+
+    final var batch = new SequencedBatch(0, position, -1, List.of(entry));
+    final var buffer = new UnsafeBuffer(new byte[batch.getLength()]);
+    batch.write(buffer, 0);
+
+    final var event = new LoggedEventImpl();
+    event.wrap(buffer, 0);
+    return event;
+  }
+}
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 class ExporterConfigurationTest {
 
@@ -62,4 +64,87 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldUseDefaultMaxExporterLead() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+
+    // then
+    assertThat(exportingCfg.getMaxExporterLead()).isEqualTo(1024);
+  }
+
+  @Test
+  void shouldSetMaxExporterLeadFromConfigurationFile() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxExporterLead()).isEqualTo(512);
+  }
+
+  @Test
+  void shouldSetMaxExporterLeadFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxExporterLead", "64");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxExporterLead()).isEqualTo(64);
+  }
+
+  @Test
+  void shouldRejectMaxExporterLeadBelowOne() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxExporterLead", "0");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("exporters", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxExporterLead must be at least 1, but was 0");
+  }
+
+  @Test
+  void shouldUseDefaultMaxExporterLeadSize() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+
+    // then
+    assertThat(exportingCfg.getMaxExporterLeadSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
+  @Test
+  void shouldSetMaxExporterLeadSizeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxExporterLeadSize", "4MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getMaxExporterLeadSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldRejectEmptyMaxExporterLeadSize() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxExporterLeadSize", "0B");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("exporters", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxExporterLeadSize must be at least 1 byte, but was 0B");
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -77,6 +78,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.isWriteBatchTransactionsEnabled()).isFalse();
   }
 
   @Test
@@ -285,4 +287,57 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldEnableWriteBatchTransactionsViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableWriteBatchTransactions", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isWriteBatchTransactionsEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldSetCachedColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.cachedColumnFamilies", "ELEMENT_INSTANCE_KEY,VARIABLES");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "VARIABLES");
+  }
+
+  @Test
+  public void shouldRejectUnknownCachedColumnFamily() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.cachedColumnFamilies", "ELEMENT_INSTANCE_KEY,UNKNOWN");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("rocksdb-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("unknown column family 'UNKNOWN'");
+  }
+
+  @Test
+  public void shouldRejectNegativeColumnFamilyCacheSize() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.columnFamilyCacheSize", "-1");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("rocksdb-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("columnFamilyCacheSize must be >= 0");
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
@@ -115,4 +116,54 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldChooseDefaultExporterThreadCount() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int exporterThreadCount = cfg.getExporterThreadCount();
+
+    // then
+    assertThat(exporterThreadCount).isZero();
+  }
+
+  @Test
+  void shouldSetExporterThreadCountFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final int exporterThreadCount = cfg.getExporterThreadCount();
+
+    // then
+    assertThat(exporterThreadCount).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSetExporterThreadCountFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.exporterThreadCount", "4");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int exporterThreadCount = cfg.getExporterThreadCount();
+
+    // then
+    assertThat(exporterThreadCount).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectNegativeExporterThreadCount() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.exporterThreadCount", "-1");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("threads-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("exporterThreadCount must not be negative, but was -1");
+  }
 }
@@ -27,6 +27,7 @@ public final class TestActorSchedulerFactory {
         ActorScheduler.newActorScheduler()
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
+            .setExporterActorThreadCount(threads.getExporterThreadCount())
             .setMetricsEnabled(features.isEnableActorMetrics())
             .setActorClock(clock)
             .build();
@@ -40,6 +40,7 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
   private final BpmnProcessResultSenderBehavior processResultSenderBehavior;
   private final BpmnBufferedMessageStartEventBehavior bufferedMessageStartEventBehavior;
   private final BpmnJobBehavior jobBehavior;
+  private final MultiInstanceInputCollectionBehavior multiInstanceInputCollectionBehavior;
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
   private final CatchEventBehavior catchEventBehavior;
   private final EventTriggerBehavior eventTriggerBehavior;
@@ -141,6 +142,9 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             jobMetrics,
             clock);
 
+    multiInstanceInputCollectionBehavior =
+        new MultiInstanceInputCollectionBehavior(
+            processingState.getVariableState(), expressionBehavior());
     multiInstanceOutputCollectionBehavior =
         new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
 
@@ -247,6 +251,11 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
     return signalBehavior;
   }
 
+  @Override
+  public MultiInstanceInputCollectionBehavior inputCollectionBehavior() {
+    return multiInstanceInputCollectionBehavior;
+  }
+
   @Override
   public MultiInstanceOutputCollectionBehavior outputCollectionBehavior() {
     return multiInstanceOutputCollectionBehavior;
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.behavior;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the input collection of a multi-instance body. The input collection is read whenever an
+ * inner instance is activated or completed, so reading it for a large collection used to evaluate
+ * the whole collection over and over again.
+ *
+ * <p>If the input collection expression refers to a single variable (or a property of it), the
+ * result of the evaluation only depends on the value of that variable. In that case, the evaluated
+ * collection is kept and shared by all inner instances, as long as the expression and the value of
+ * the variable stay the same. Comparing the raw variable value is much cheaper than evaluating the
+ * collection again. Any other expression is evaluated every time.
+ */
+public final class MultiInstanceInputCollectionBehavior {
+
+  private final ExpandableArrayBuffer cachedVariableValue = new ExpandableArrayBuffer();
+  private final DirectBuffer cachedVariableValueView = new UnsafeBuffer(0, 0);
+  private final List<DirectBuffer> cachedCollection = new ArrayList<>();
+  private final List<DirectBuffer> cachedCollectionView =
+      Collections.unmodifiableList(cachedCollection);
+  private String cachedExpression;
+
+  private final VariableState variableState;
+  private final ExpressionProcessor expressionProcessor;
+
+  MultiInstanceInputCollectionBehavior(
+      final VariableState variableState, final ExpressionProcessor expressionProcessor) {
+    this.variableState = variableState;
+    this.expressionProcessor = expressionProcessor;
+  }
+
+  /**
+   * Returns the input collection of the given multi-instance body, as seen from the given context.
+   * The returned list must not be modified, and is only valid until the next invocation.
+   *
+   * @param element the multi-instance body
+   * @param context the context to read the input collection from
+   * @return either the elements of the input collection, or a failure if it can't be evaluated
+   */
+  public Either<Failure, List<DirectBuffer>> getInputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
+    final var scopeKey = context.getElementInstanceKey();
+
+    final var variableName = inputCollection.getVariableName();
+    if (variableName.isEmpty()) {
+      return expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    }
+
+    final var variableValue =
+        variableState.getVariable(scopeKey, BufferUtil.wrapString(variableName.get()));
+    if (variableValue == null) {
+      // let the evaluation produce the appropriate failure
+      return expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    }
+
+    if (isCached(inputCollection, variableValue)) {
+      return Either.right(cachedCollectionView);
+    }
+
+    // the variable value is only a view on the state, so it must be copied before evaluating
+    cacheVariableValue(variableValue);
+    final var collectionOrFailure =
+        expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    if (collectionOrFailure.isLeft()) {
+      cachedExpression = null;
+      return collectionOrFailure;
+    }
+
+    cachedCollection.clear();
+    for (final DirectBuffer item : collectionOrFailure.get()) {
+      cachedCollection.add(BufferUtil.cloneBuffer(item));
+    }
+    cachedExpression = inputCollection.getExpression();
+    return Either.right(cachedCollectionView);
+  }
+
+  private boolean isCached(final Expression inputCollection, final DirectBuffer variableValue) {
+    return inputCollection.getExpression().equals(cachedExpression)
+        && BufferUtil.equals(cachedVariableValueView, variableValue);
+  }
+
+  private void cacheVariableValue(final DirectBuffer variableValue) {
+    cachedExpression = null;
+    cachedVariableValue.putBytes(0, variableValue, 0, variableValue.capacity());
+    cachedVariableValueView.wrap(cachedVariableValue, 0, variableValue.capacity());
+  }
+}
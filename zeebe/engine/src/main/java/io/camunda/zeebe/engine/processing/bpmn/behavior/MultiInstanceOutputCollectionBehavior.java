@@ -24,6 +24,17 @@ import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Maintains the output collection of a multi-instance body. The collection is initialized with nil
+ * elements, and the element of an inner instance is replaced in place once it completes.
+ *
+ * <p>NOTE: the output collection is a regular variable, so every update writes the whole
+ * collection to the state and to the log. For a collection of n elements, completing all inner
+ * instances therefore writes O(n^2) bytes in total, and an output collection can't grow beyond
+ * what fits into a single record. Unlike the input collection (see {@link
+ * MultiInstanceInputCollectionBehavior}), this can't be avoided without changing the variable
+ * records, which carry the full value for exporters and replay.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
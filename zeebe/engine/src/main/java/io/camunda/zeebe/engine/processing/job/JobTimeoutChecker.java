@@ -82,9 +82,9 @@ final class JobTimeoutChecker implements Task {
       startAtIndex = lastVisitedIndex;
       schedule(Duration.ZERO);
     } else {
+      scheduleNextRun(executionTimestamp);
       executionTimestamp = -1;
       startAtIndex = null;
-      schedule(pollingInterval);
     }
 
     LOG.trace("{} timeout job commands appended to task result builder", counter.get());
@@ -92,6 +92,23 @@ final class JobTimeoutChecker implements Task {
     return taskResultBuilder.build();
   }
 
+  /**
+   * Schedules the next run for when the next deadline expires, but no later than the polling
+   * interval. Newly activated jobs may have an earlier deadline than the currently known next
+   * deadline, so the polling interval remains the upper bound for detecting their time out.
+   */
+  private void scheduleNextRun(final long lastExecutionTimestamp) {
+    final var nextDeadline = state.findNextDeadline(lastExecutionTimestamp);
+    if (nextDeadline < 0) {
+      schedule(pollingInterval);
+      return;
+    }
+
+    // a deadline has expired once it is before the execution timestamp, hence the additional ms
+    final var untilNextDeadline = Math.max(0, nextDeadline + 1 - clock.millis());
+    schedule(Duration.ofMillis(Math.min(untilNextDeadline, pollingInterval.toMillis())));
+  }
+
   public void setProcessingContext(final ReadonlyStreamProcessorContext processingContext) {
     this.processingContext = processingContext;
   }
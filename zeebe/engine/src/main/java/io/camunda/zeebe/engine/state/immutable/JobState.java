@@ -31,6 +31,17 @@ public interface JobState {
   DeadlineIndex forEachTimedOutEntry(
       long executionTimestamp, final DeadlineIndex startAt, BiPredicate<Long, JobRecord> callback);
 
+  /**
+   * Finds the earliest deadline of all activated jobs, which has not yet expired at the given
+   * timestamp, i.e. which is equal to or after it.
+   *
+   * @param executionTimestamp Timestamp against which it's determined whether the deadline has
+   *     expired
+   * @return the next deadline, or {@code -1} if there is no job with a deadline that has not yet
+   *     expired
+   */
+  long findNextDeadline(long executionTimestamp);
+
   boolean exists(long jobKey);
 
   State getState(long key);
@@ -24,7 +24,9 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +34,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -51,6 +54,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
       awaitProcessInstanceResultMetadataColumnFamily;
 
   private final DbLong flowScopeKey = new DbLong();
+  private final ChildKeys childKeys = new ChildKeys();
   private final DbString gatewayElementId = new DbString();
   private final DbString sequenceFlowElementId = new DbString();
   private final DbInt numberOfTakenSequenceFlows = new DbInt();
@@ -306,15 +310,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     if (parentInstance != null) {
       this.parentKey.inner().wrapLong(parentKey);
 
+      // collect the child keys first to read all children with a single batched lookup
+      childKeys.keys.clear();
       parentChildColumnFamily.whileEqualPrefix(
           this.parentKey,
           (key, value) -> {
-            final DbLong childKey = key.second().inner();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            childKeys.keys.addLong(key.second().inner().getValue());
           });
+
+      elementInstanceColumnFamily.getAll(
+          childKeys, (childKey, childInstance) -> children.add(copyElementInstance(childInstance)));
     }
     return children;
   }
@@ -437,4 +442,36 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           numberOfTakenSequenceFlowsColumnFamily.deleteExisting(key);
         });
   }
+
+  /**
+   * The keys of the children to look up with a batched read. To not allocate a key per child, the
+   * iterator wraps a single reused key instance around each child key in turn.
+   */
+  private static final class ChildKeys extends AbstractCollection<DbLong> {
+    private final LongArrayList keys = new LongArrayList();
+    private final DbLong key = new DbLong();
+
+    @Override
+    public Iterator<DbLong> iterator() {
+      return new Iterator<>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < keys.size();
+        }
+
+        @Override
+        public DbLong next() {
+          key.wrapLong(keys.getLong(index++));
+          return key;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return keys.size();
+    }
+  }
 }
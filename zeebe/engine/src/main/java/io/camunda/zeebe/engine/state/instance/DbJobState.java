@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,12 +32,20 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  // activatable jobs are looked up in batches, which start small and grow up to the max size, such
+  // that activating a single job reads few jobs, while activating many jobs reads them in few calls
+  private static final int MIN_ACTIVATABLE_JOBS_BATCH_SIZE = 4;
+  private static final int MAX_ACTIVATABLE_JOBS_BATCH_SIZE = 256;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -73,6 +82,10 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // reusable keys used to look up activatable jobs in batches
+  private final List<DbLong> activatableJobKeyPool = new ArrayList<>();
+  private final List<DbLong> activatableJobKeys = new ArrayList<>();
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -378,6 +391,22 @@ public final class DbJobState implements JobState, MutableJobState {
     return lastVisitedIndex.get();
   }
 
+  @Override
+  public long findNextDeadline(final long executionTimestamp) {
+    deadlineKey.wrapLong(executionTimestamp);
+    jobKey.wrapLong(0);
+
+    final var nextDeadline = new MutableLong(-1L);
+    deadlinesColumnFamily.whileTrue(
+        deadlineJobKey,
+        (key, value) -> {
+          nextDeadline.set(key.first().getValue());
+          return false;
+        });
+
+    return nextDeadline.get();
+  }
+
   @Override
   public boolean exists(final long jobKey) {
     this.jobKey.wrapLong(jobKey);
@@ -408,7 +437,10 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
 
+    final var shouldContinue = new MutableBoolean(true);
+    final var batchSize = new MutableInteger(MIN_ACTIVATABLE_JOBS_BATCH_SIZE);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -416,11 +448,24 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            addActivatableJobKey(jobKey.getValue());
           }
-          // we want to continue with the iteration
-          return true;
+
+          if (activatableJobKeys.size() < batchSize.get()) {
+            // we want to continue with the iteration
+            return true;
+          }
+
+          shouldContinue.set(visitJobs(activatableJobKeys, callback::apply));
+          activatableJobKeys.clear();
+          batchSize.set(Math.min(batchSize.get() * 2, MAX_ACTIVATABLE_JOBS_BATCH_SIZE));
+          return shouldContinue.get();
         }));
+
+    if (shouldContinue.get() && !activatableJobKeys.isEmpty()) {
+      visitJobs(activatableJobKeys, callback::apply);
+    }
+    activatableJobKeys.clear();
   }
 
   @Override
@@ -475,6 +520,43 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Visits all jobs with the given keys, reading them in a single batch. Stops calling the callback
+   * as soon as it returns false.
+   *
+   * @return true if the callback wants to continue with the next jobs, false otherwise
+   */
+  private boolean visitJobs(
+      final List<DbLong> jobKeys, final BiPredicate<Long, JobRecord> callback) {
+    final var shouldContinue = new MutableBoolean(true);
+    jobsColumnFamily.getAll(
+        jobKeys,
+        (key, job) -> {
+          if (!shouldContinue.get()) {
+            return;
+          }
+
+          if (job == null) {
+            LOG.warn("Expected to find job with key {}, but no job found", key.getValue());
+            return; // we want to continue with the iteration
+          }
+
+          shouldContinue.set(callback.test(key.getValue(), job.getRecord()));
+        });
+    return shouldContinue.get();
+  }
+
+  private void addActivatableJobKey(final long key) {
+    final var index = activatableJobKeys.size();
+    if (index == activatableJobKeyPool.size()) {
+      activatableJobKeyPool.add(new DbLong());
+    }
+
+    final var pooledKey = activatableJobKeyPool.get(index);
+    pooledKey.wrapLong(key);
+    activatableJobKeys.add(pooledKey);
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
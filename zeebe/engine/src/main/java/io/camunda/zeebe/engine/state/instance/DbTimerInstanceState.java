@@ -17,10 +17,20 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
+  // due timers are looked up in batches, which start small and grow up to the max size, such that
+  // triggering a few timers reads few timers, while triggering many timers reads them in few calls
+  private static final int MIN_DUE_TIMERS_BATCH_SIZE = 4;
+  private static final int MAX_DUE_TIMERS_BATCH_SIZE = 256;
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
   private final TimerInstance timerInstance;
@@ -37,6 +47,12 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   private long nextDueDate;
 
+  // reusable keys used to look up due timers in batches, and the due dates of the collected timers
+  private final List<DbCompositeKey<DbForeignKey<DbLong>, DbLong>> dueTimerKeyPool =
+      new ArrayList<>();
+  private final List<DbCompositeKey<DbForeignKey<DbLong>, DbLong>> dueTimerKeys = new ArrayList<>();
+  private final LongArrayList dueTimerDueDates = new LongArrayList();
+
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     timerInstance = new TimerInstance();
@@ -93,32 +109,35 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
+    dueTimerKeys.clear();
+    dueTimerDueDates.clear();
 
+    final var shouldContinue = new MutableBoolean(true);
+    final var batchSize = new MutableInteger(MIN_DUE_TIMERS_BATCH_SIZE);
     dueDateColumnFamily.whileTrue(
         (key, nil) -> {
           final var dueDate = key.first().getValue();
-          final var elementAndTimerKey = key.second();
-
-          boolean consumed = false;
-          if (dueDate <= timestamp) {
-            final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            if (timerInstance == null) {
-              // Time for due date no longer exists. This can occur due to the following data race:
-              // 1. Scheduled task reads a due date for a timer
-              // 2. Processing removes timer and due date
-              // 3. Scheduled task fails to find timer
-              // Because timer and due date were already removed, we can ignore this here.
-              return true;
-            }
-            consumed = consumer.visit(timerInstance);
+          if (dueDate > timestamp) {
+            nextDueDate = dueDate;
+            return false;
           }
 
-          if (!consumed) {
-            nextDueDate = dueDate;
+          addDueTimerKey(dueDate, key.second());
+          if (dueTimerKeys.size() < batchSize.get()) {
+            return true;
           }
-          return consumed;
+
+          shouldContinue.set(visitDueTimers(consumer));
+          batchSize.set(Math.min(batchSize.get() * 2, MAX_DUE_TIMERS_BATCH_SIZE));
+          return shouldContinue.get();
         });
 
+    if (shouldContinue.get() && !dueTimerKeys.isEmpty()) {
+      visitDueTimers(consumer);
+    }
+    dueTimerKeys.clear();
+    dueTimerDueDates.clear();
+
     return nextDueDate;
   }
 
@@ -141,4 +160,60 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /**
+   * Visits all collected due timers, reading them in a single batch. Stops calling the consumer as
+   * soon as it returns false, in which case the due date of the timer that was not consumed becomes
+   * the next due date.
+   *
+   * @return true if the consumer wants to continue with the next timers, false otherwise
+   */
+  private boolean visitDueTimers(final TimerVisitor consumer) {
+    final var shouldContinue = new MutableBoolean(true);
+    final var index = new MutableInteger();
+    timerInstanceColumnFamily.getAll(
+        dueTimerKeys,
+        (key, timerInstance) -> {
+          final var dueDate = dueTimerDueDates.getLong(index.getAndIncrement());
+          if (!shouldContinue.get()) {
+            return;
+          }
+
+          if (timerInstance == null) {
+            // Time for due date no longer exists. This can occur due to the following data race:
+            // 1. Scheduled task reads a due date for a timer
+            // 2. Processing removes timer and due date
+            // 3. Scheduled task fails to find timer
+            // Because timer and due date were already removed, we can ignore this here.
+            return;
+          }
+
+          if (!consumer.visit(timerInstance)) {
+            nextDueDate = dueDate;
+            shouldContinue.set(false);
+          }
+        });
+
+    dueTimerKeys.clear();
+    dueTimerDueDates.clear();
+    return shouldContinue.get();
+  }
+
+  private void addDueTimerKey(
+      final long dueDate, final DbCompositeKey<DbForeignKey<DbLong>, DbLong> elementAndTimerKey) {
+    final var index = dueTimerKeys.size();
+    if (index == dueTimerKeyPool.size()) {
+      dueTimerKeyPool.add(
+          new DbCompositeKey<>(
+              new DbForeignKey<>(
+                  new DbLong(), ZbColumnFamilies.ELEMENT_INSTANCE_KEY, MatchType.Full),
+              new DbLong()));
+    }
+
+    final var pooledKey = dueTimerKeyPool.get(index);
+    pooledKey.first().inner().wrapLong(elementAndTimerKey.first().inner().getValue());
+    pooledKey.second().wrapLong(elementAndTimerKey.second().getValue());
+    dueTimerKeys.add(pooledKey);
+    dueTimerDueDates.addLong(dueDate);
+  }
 }
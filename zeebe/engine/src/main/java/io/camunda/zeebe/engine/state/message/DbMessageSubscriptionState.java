@@ -57,6 +57,10 @@ public final class DbMessageSubscriptionState
   private final TransientPendingSubscriptionState transientState;
   private final InstantSource clock;
 
+  private final TransactionContext transactionContext;
+  // built from the state once it is recovered; until then, all subscriptions are looked up
+  private MessageCorrelationFilter correlationFilter;
+
   public DbMessageSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
@@ -89,10 +93,13 @@ public final class DbMessageSubscriptionState
             tenantAwareNameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
     this.transientState = transientState;
+    this.transactionContext = transactionContext;
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    buildCorrelationFilter();
+
     subscriptionColumnFamily.forEach(
         subscription -> {
           if (subscription.isCorrelating()) {
@@ -117,11 +124,18 @@ public final class DbMessageSubscriptionState
       final DirectBuffer messageName,
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
-
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    if (correlationFilter != null
+        && !correlationFilter.mightContain(
+            tenantIdKey.getBuffer(),
+            this.messageName.getBuffer(),
+            this.correlationKey.getBuffer())) {
+      return;
+    }
+
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
@@ -140,6 +154,7 @@ public final class DbMessageSubscriptionState
 
   @Override
   public void put(final long key, final MessageSubscriptionRecord record) {
+    growCorrelationFilterIfOverloaded();
     wrapSubscriptionKeys(
         record.getElementInstanceKey(), record.getMessageNameBuffer(), record.getTenantId());
 
@@ -150,6 +165,10 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    if (correlationFilter != null) {
+      correlationFilter.add(
+          tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
+    }
   }
 
   @Override
@@ -208,14 +227,19 @@ public final class DbMessageSubscriptionState
 
   @Override
   public void remove(final MessageSubscription subscription) {
+    final var record = subscription.getRecord();
+    elementInstanceKey.wrapLong(record.getElementInstanceKey());
+    messageName.wrapBuffer(record.getMessageNameBuffer());
     subscriptionColumnFamily.deleteExisting(elementKeyAndMessageName);
 
-    final var record = subscription.getRecord();
     tenantIdKey.wrapString(record.getTenantId());
-    messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(
         tenantAwareNameCorrelationAndElementInstanceKey);
+    if (correlationFilter != null) {
+      correlationFilter.remove(
+          tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
+    }
 
     transientState.remove(
         new PendingSubscription(
@@ -297,6 +321,57 @@ public final class DbMessageSubscriptionState
         new PendingSubscription(elementInstanceKey, messageName, tenantId), timestampMs);
   }
 
+  /**
+   * Builds the correlation filter from the subscriptions in the state, once the state is recovered.
+   * Building it then, rather than on the first lookup, keeps the scan over all subscriptions out of
+   * processing, and skips maintaining the filter during replay. The filter is sized for the current
+   * number of subscriptions with some headroom, so that it stays small for partitions with few
+   * subscriptions.
+   */
+  private void buildCorrelationFilter() {
+    if (correlationFilter != null) {
+      return;
+    }
+
+    final long subscriptions = messageNameAndCorrelationKeyColumnFamily.count();
+    final var filter = new MessageCorrelationFilter(subscriptions * 2);
+    fillCorrelationFilter(filter);
+    transactionContext.addTransactionListener(filter);
+    correlationFilter = filter;
+  }
+
+  /**
+   * Rebuilds the correlation filter at twice its size once it holds more subscriptions than it is
+   * sized for, which would otherwise let its false positive rate grow without bound. The filter is
+   * only rebuilt at a commit boundary, i.e. before the current transaction changed any
+   * subscription: then the state holds exactly the committed subscriptions, and there are no
+   * changes which the filter would have to undo on rollback.
+   */
+  private void growCorrelationFilterIfOverloaded() {
+    if (correlationFilter == null
+        || !correlationFilter.isOverloaded()
+        || correlationFilter.hasUncommittedChanges()) {
+      return;
+    }
+
+    final long subscriptions = correlationFilter.subscriptions();
+    correlationFilter.reset(subscriptions * 2);
+    fillCorrelationFilter(correlationFilter);
+    LOG.debug(
+        "Rebuilt the message correlation filter for {} subscriptions with {} counters",
+        subscriptions,
+        correlationFilter.size());
+  }
+
+  private void fillCorrelationFilter(final MessageCorrelationFilter filter) {
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) ->
+            filter.add(
+                tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer()));
+    // the subscriptions were already in the state, so they must not be undone on rollback
+    filter.onCommit();
+  }
+
   private void wrapSubscriptionKeys(
       final long elementInstanceKey, final DirectBuffer messageName, final String tenantId) {
     this.elementInstanceKey.wrapLong(elementInstanceKey);
@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.db.TransactionListener;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A counting bloom filter over the (tenant id, message name, correlation key) of all message
+ * subscriptions. It tells if there may be a subscription for a published message, which allows to
+ * skip looking up the subscriptions when there is definitely none. This is the common case when
+ * publishing messages which are buffered or not correlated at all.
+ *
+ * <p>The filter may report false positives, but never false negatives. To guarantee the latter, it
+ * follows the transactions of the state: all changes since the last commit are recorded, and undone
+ * when the transaction is rolled back.
+ *
+ * <p>The filter is sized for the number of subscriptions it is expected to hold. If it holds more,
+ * it stays correct, but reports more false positives. It therefore counts the subscriptions it
+ * holds, such that it can be {@link #reset(long) rebuilt} with a larger size once it {@link
+ * #isOverloaded() is overloaded}.
+ */
+final class MessageCorrelationFilter implements TransactionListener {
+
+  /**
+   * The counters per expected subscription. Each subscription is counted at two hash positions;
+   * with 16 counters per subscription, this keeps the false positive rate at about 1.5% as long as
+   * the expected number of subscriptions is not exceeded.
+   */
+  static final int COUNTERS_PER_SUBSCRIPTION = 16;
+
+  /** At least 2^16 counters, i.e. 256 KiB, which is enough for 4096 subscriptions. */
+  static final int MIN_COUNTERS = 1 << 16;
+
+  /** At most 2^22 counters, i.e. 16 MiB, which is enough for 262144 subscriptions. */
+  static final int MAX_COUNTERS = 1 << 22;
+
+  private final LongArrayList uncommittedChanges = new LongArrayList();
+  private int[] counters;
+  private int mask;
+  private long subscriptions;
+
+  /**
+   * @param expectedSubscriptions the number of subscriptions the filter is expected to hold
+   */
+  MessageCorrelationFilter(final long expectedSubscriptions) {
+    reset(expectedSubscriptions);
+  }
+
+  /**
+   * Removes all subscriptions, and resizes the filter for the given number of subscriptions. The
+   * subscriptions must be added again afterwards, and committed with {@link #onCommit()}.
+   *
+   * @param expectedSubscriptions the number of subscriptions the filter is expected to hold
+   */
+  void reset(final long expectedSubscriptions) {
+    final long requiredCounters =
+        Math.min(expectedSubscriptions * COUNTERS_PER_SUBSCRIPTION, MAX_COUNTERS);
+    final int size =
+        Math.max(BitUtil.findNextPositivePowerOfTwo((int) requiredCounters), MIN_COUNTERS);
+    counters = new int[size];
+    mask = size - 1;
+    subscriptions = 0;
+    uncommittedChanges.clear();
+  }
+
+  /**
+   * Adds a subscription for the given correlation attributes.
+   *
+   * @param tenantId the tenant of the subscription
+   * @param messageName the name of the message of the subscription
+   * @param correlationKey the correlation key of the subscription
+   */
+  void add(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    final long hash = hash(tenantId, messageName, correlationKey);
+    update(hash, 1);
+    uncommittedChanges.addLong(hash);
+  }
+
+  /**
+   * Removes a subscription for the given correlation attributes, which was added before.
+   *
+   * @param tenantId the tenant of the subscription
+   * @param messageName the name of the message of the subscription
+   * @param correlationKey the correlation key of the subscription
+   */
+  void remove(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    final long hash = hash(tenantId, messageName, correlationKey);
+    update(hash, -1);
+    // hashes are non-negative, so removals are recorded as the (negative) complement of the hash
+    uncommittedChanges.addLong(~hash);
+  }
+
+  /**
+   * Returns {@code false} if there is definitely no subscription for the given correlation
+   * attributes, and {@code true} if there may be one.
+   *
+   * @param tenantId the tenant of the message
+   * @param messageName the name of the message
+   * @param correlationKey the correlation key of the message
+   * @return {@code false} if no subscription can match, otherwise {@code true}
+   */
+  boolean mightContain(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    final long hash = hash(tenantId, messageName, correlationKey);
+    return counters[firstIndex(hash)] > 0 && counters[secondIndex(hash)] > 0;
+  }
+
+  @Override
+  public void onCommit() {
+    uncommittedChanges.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+      final long change = uncommittedChanges.getLong(i);
+      // the hashes of additions and removals are distinguished by their sign bit
+      if (change >= 0) {
+        update(change, -1);
+      } else {
+        update(~change, 1);
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  private void update(final long hash, final int delta) {
+    counters[firstIndex(hash)] += delta;
+    counters[secondIndex(hash)] += delta;
+    subscriptions += delta;
+  }
+
+  /**
+   * Returns {@code true} if the filter holds more subscriptions than it is sized for, and could
+   * still grow. An overloaded filter stays correct, but reports more false positives with every
+   * further subscription.
+   *
+   * @return {@code true} if the filter should be rebuilt with a larger size
+   */
+  boolean isOverloaded() {
+    return counters.length < MAX_COUNTERS
+        && subscriptions * COUNTERS_PER_SUBSCRIPTION > counters.length;
+  }
+
+  /**
+   * @return {@code true} if the filter was changed since the last commit or rollback
+   */
+  boolean hasUncommittedChanges() {
+    return !uncommittedChanges.isEmpty();
+  }
+
+  /**
+   * @return the number of subscriptions the filter holds, including uncommitted ones
+   */
+  long subscriptions() {
+    return subscriptions;
+  }
+
+  /**
+   * @return the number of counters of the filter
+   */
+  int size() {
+    return counters.length;
+  }
+
+  private int firstIndex(final long hash) {
+    return (int) hash & mask;
+  }
+
+  private int secondIndex(final long hash) {
+    return (int) (hash >>> 32) & mask;
+  }
+
+  /**
+   * Returns a non-negative hash of the given attributes, such that its complement can be used to
+   * record removals.
+   */
+  private static long hash(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    long hash = 17;
+    hash = hash(hash, tenantId);
+    hash = hash(hash, messageName);
+    hash = hash(hash, correlationKey);
+    return mix(hash) & Long.MAX_VALUE;
+  }
+
+  private static long hash(final long seed, final DirectBuffer buffer) {
+    final int length = buffer.capacity();
+    // include the length, such that e.g. ("ab", "c") and ("a", "bc") are different
+    long hash = seed * 31 + length;
+    for (int i = 0; i < length; i++) {
+      hash = hash * 31 + buffer.getByte(i);
+    }
+    return hash;
+  }
+
+  /** The finalizer of MurmurHash3, to spread the bits of the hash over both indexes. */
+  private static long mix(final long hash) {
+    long mixed = hash;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb3fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+}
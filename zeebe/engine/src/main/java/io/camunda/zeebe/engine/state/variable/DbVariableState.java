@@ -56,6 +56,11 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // collecting variables by name, using point lookups instead of scanning the whole scope
+  private final DbLong lookupScopeKey = new DbLong();
+  private final List<DbCompositeKey<DbLong, DbString>> lookupKeyPool = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> lookupKeys = new ArrayList<>();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -221,29 +226,31 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  /**
+   * Collects the variables with the given names, following the scope hierarchy. Instead of scanning
+   * all variables of each scope, this looks up the remaining names directly in each scope, so the
+   * cost depends on the number of requested variables rather than on the number of variables in the
+   * scopes.
+   */
   @Override
   public DirectBuffer getVariablesAsDocument(
       final long scopeKey, final Collection<DirectBuffer> names) {
 
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
+    final int variablesCount = variablesToCollect.size();
 
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, variablesCount - variablesToCollect.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -316,6 +323,41 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up all variables which are still to be collected in the given scope with a single batched
+   * read, and writes the ones found to the result document.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    lookupScopeKey.wrapLong(scopeKey);
+    lookupKeys.clear();
+
+    for (final DirectBuffer name : variablesToCollect) {
+      final var lookupKey = getLookupKey(lookupKeys.size());
+      lookupKey.second().wrapBuffer(name);
+      lookupKeys.add(lookupKey);
+    }
+
+    variablesColumnFamily.getAll(
+        lookupKeys,
+        (key, variable) -> {
+          if (variable != null) {
+            final DirectBuffer name = key.second().getBuffer();
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+
+            variablesToCollect.remove(name);
+          }
+        });
+  }
+
+  private DbCompositeKey<DbLong, DbString> getLookupKey(final int index) {
+    if (index == lookupKeyPool.size()) {
+      lookupKeyPool.add(new DbCompositeKey<>(lookupScopeKey, new DbString()));
+    }
+
+    return lookupKeyPool.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
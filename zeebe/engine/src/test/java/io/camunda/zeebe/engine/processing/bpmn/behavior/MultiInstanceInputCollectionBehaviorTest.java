@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.behavior;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.protocol.record.value.ErrorType;
+import io.camunda.zeebe.util.Either;
+import java.util.List;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class MultiInstanceInputCollectionBehaviorTest {
+
+  private final VariableState variableState = mock(VariableState.class);
+  private final ExpressionProcessor expressionProcessor = mock(ExpressionProcessor.class);
+  private final Expression inputCollection = mock(Expression.class);
+  private final ExecutableMultiInstanceBody element = mock(ExecutableMultiInstanceBody.class);
+  private final BpmnElementContext context = mock(BpmnElementContext.class);
+
+  private MultiInstanceInputCollectionBehavior behavior;
+
+  @BeforeEach
+  void setUp() {
+    when(element.getLoopCharacteristics())
+        .thenReturn(
+            new ExecutableLoopCharacteristics(
+                false,
+                Optional.empty(),
+                inputCollection,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty()));
+    when(context.getElementInstanceKey()).thenReturn(123L);
+
+    behavior = new MultiInstanceInputCollectionBehavior(variableState, expressionProcessor);
+  }
+
+  @Test
+  void shouldEvaluateUnchangedInputCollectionOnlyOnce() {
+    // given
+    givenVariableExpression("items");
+    when(variableState.getVariable(anyLong(), eq(wrapString("items"))))
+        .thenReturn(wrapString("[1,2]"));
+    when(expressionProcessor.evaluateArrayExpression(inputCollection, 123L))
+        .thenReturn(Either.right(List.of(wrapString("1"), wrapString("2"))));
+
+    // when
+    behavior.getInputCollection(element, context);
+    final var collection = behavior.getInputCollection(element, context);
+
+    // then
+    assertThat(collection.get()).containsExactly(wrapString("1"), wrapString("2"));
+    verify(expressionProcessor, times(1)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateInputCollectionAgainWhenVariableChanged() {
+    // given
+    givenVariableExpression("items");
+    when(variableState.getVariable(anyLong(), eq(wrapString("items"))))
+        .thenReturn(wrapString("[1,2]"), wrapString("[3]"));
+    when(expressionProcessor.evaluateArrayExpression(inputCollection, 123L))
+        .thenReturn(
+            Either.right(List.of(wrapString("1"), wrapString("2"))),
+            Either.right(List.of(wrapString("3"))));
+
+    // when
+    behavior.getInputCollection(element, context);
+    final var collection = behavior.getInputCollection(element, context);
+
+    // then
+    assertThat(collection.get()).containsExactly(wrapString("3"));
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateInputCollectionAgainAfterFailure() {
+    // given
+    givenVariableExpression("items");
+    when(variableState.getVariable(anyLong(), eq(wrapString("items"))))
+        .thenReturn(wrapString("foo"));
+    final var failure = new Failure("not an array", ErrorType.EXTRACT_VALUE_ERROR);
+    when(expressionProcessor.evaluateArrayExpression(inputCollection, 123L))
+        .thenReturn(Either.left(failure));
+
+    // when
+    behavior.getInputCollection(element, context);
+    final var collection = behavior.getInputCollection(element, context);
+
+    // then
+    assertThat(collection.getLeft()).isEqualTo(failure);
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldAlwaysEvaluateInputCollectionWithoutSingleVariable() {
+    // given
+    when(inputCollection.getVariableName()).thenReturn(Optional.empty());
+    final List<DirectBuffer> items = List.of(wrapString("1"));
+    when(expressionProcessor.evaluateArrayExpression(inputCollection, 123L))
+        .thenReturn(Either.right(items));
+
+    // when
+    behavior.getInputCollection(element, context);
+    final var collection = behavior.getInputCollection(element, context);
+
+    // then
+    assertThat(collection.get()).containsExactly(wrapString("1"));
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  private void givenVariableExpression(final String variableName) {
+    when(inputCollection.getVariableName()).thenReturn(Optional.of(variableName));
+    when(inputCollection.getExpression()).thenReturn(variableName);
+  }
+}
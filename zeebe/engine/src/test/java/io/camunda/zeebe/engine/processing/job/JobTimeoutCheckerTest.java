@@ -30,6 +30,7 @@ import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.InstantSource;
 import org.junit.Before;
 import org.junit.Rule;
@@ -110,6 +111,52 @@ public class JobTimeoutCheckerTest {
         .isLessThanOrEqualTo(ActorClock.currentTimeMillis() + pollingInterval.toMillis());
   }
 
+  @Test
+  public void shouldRescheduleAtNextDeadlineIfBeforePollingInterval() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
+
+    final Duration pollingInterval = Duration.ofSeconds(30);
+    final var clock = InstantSource.fixed(Instant.ofEpochMilli(1_000));
+    createAndActivateJobRecord(NUMBER_OF_ACTIVE_JOBS + 1, newJobRecord().setDeadline(1_500));
+
+    final var task = new JobTimeoutChecker(jobState, pollingInterval, Integer.MAX_VALUE, clock);
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then - the job times out once the execution timestamp is after its deadline
+    verify(mockScheduleService, times(1))
+        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
+    assertThat(timestampCaptor.getValue()).isEqualTo(1_501);
+  }
+
+  @Test
+  public void shouldRescheduleWithPollingIntervalIfNextDeadlineIsLater() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
+
+    final Duration pollingInterval = Duration.ofSeconds(30);
+    final var clock = InstantSource.fixed(Instant.ofEpochMilli(1_000));
+    createAndActivateJobRecord(NUMBER_OF_ACTIVE_JOBS + 1, newJobRecord().setDeadline(60_000));
+
+    final var task = new JobTimeoutChecker(jobState, pollingInterval, Integer.MAX_VALUE, clock);
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    verify(mockScheduleService, times(1))
+        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
+    assertThat(timestampCaptor.getValue()).isEqualTo(1_000 + pollingInterval.toMillis());
+  }
+
   @Test
   public void shouldRescheduleImmediatelyIfYieldedDueToBatchLimit() {
     // Given
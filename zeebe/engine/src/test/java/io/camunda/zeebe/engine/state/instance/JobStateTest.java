@@ -571,6 +571,21 @@ public final class JobStateTest {
     assertThat(nextIndex.key()).isEqualTo(3);
   }
 
+  @Test
+  public void shouldFindNextDeadline() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(512L));
+
+    // when - then
+    assertThat(jobState.findNextDeadline(0L)).isEqualTo(1L);
+    assertThat(jobState.findNextDeadline(2L)).isEqualTo(256L);
+    assertThat(jobState.findNextDeadline(256L)).isEqualTo(256L);
+    assertThat(jobState.findNextDeadline(257L)).isEqualTo(512L);
+    assertThat(jobState.findNextDeadline(513L)).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldCleanUpOnForEachTimedOutAndVisitNext() {
     // given
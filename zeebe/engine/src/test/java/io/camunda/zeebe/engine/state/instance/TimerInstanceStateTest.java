@@ -170,6 +170,30 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateAcrossBatchesUntilNotConsumed() {
+    // given - more timers than fit into the first few lookup batches
+    for (long i = 1; i <= 100; i++) {
+      createTimerInstance(i, i, i * 1000L);
+    }
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(
+            100_000L,
+            t -> {
+              if (keys.size() == 42) {
+                return false;
+              }
+              return keys.add(t.getElementInstanceKey());
+            });
+
+    // then
+    assertThat(keys).hasSize(42).startsWith(1L, 2L, 3L).endsWith(41L, 42L);
+    assertThat(nextDueDate).isEqualTo(43_000L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class MessageCorrelationFilterTest {
+
+  private static final DirectBuffer TENANT = wrapString("<default>");
+  private static final DirectBuffer NAME = wrapString("message");
+  private static final DirectBuffer CORRELATION_KEY = wrapString("order-1");
+
+  private final MessageCorrelationFilter filter = new MessageCorrelationFilter(1);
+
+  @Test
+  void shouldNotContainAnythingInitially() {
+    // when - then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isFalse();
+  }
+
+  @Test
+  void shouldContainAddedSubscription() {
+    // when
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isTrue();
+    assertThat(filter.mightContain(TENANT, NAME, wrapString("order-2"))).isFalse();
+    assertThat(filter.mightContain(wrapString("tenant"), NAME, CORRELATION_KEY)).isFalse();
+  }
+
+  @Test
+  void shouldContainSubscriptionUntilAllAreRemoved() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+
+    // when
+    filter.remove(TENANT, NAME, CORRELATION_KEY);
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isTrue();
+
+    // when
+    filter.remove(TENANT, NAME, CORRELATION_KEY);
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isFalse();
+  }
+
+  @Test
+  void shouldDistinguishAttributeBoundaries() {
+    // when
+    filter.add(wrapString("ab"), wrapString("c"), CORRELATION_KEY);
+
+    // then
+    assertThat(filter.mightContain(wrapString("a"), wrapString("bc"), CORRELATION_KEY)).isFalse();
+  }
+
+  @Test
+  void shouldUndoAddedSubscriptionOnRollback() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isFalse();
+  }
+
+  @Test
+  void shouldUndoRemovedSubscriptionOnRollback() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+    filter.onCommit();
+    filter.remove(TENANT, NAME, CORRELATION_KEY);
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isTrue();
+  }
+
+  @Test
+  void shouldKeepCommittedChangesOnRollback() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+    filter.onCommit();
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isTrue();
+  }
+
+  @Test
+  void shouldSizeForExpectedSubscriptions() {
+    // when
+    final var sizedFilter = new MessageCorrelationFilter(100_000 / 16);
+
+    // then
+    assertThat(sizedFilter.size()).isEqualTo(1 << 17);
+  }
+
+  @Test
+  void shouldNotBeSmallerThanMinimumSize() {
+    // when
+    final var sizedFilter = new MessageCorrelationFilter(0);
+
+    // then
+    assertThat(sizedFilter.size()).isEqualTo(MessageCorrelationFilter.MIN_COUNTERS);
+  }
+
+  @Test
+  void shouldNotBeLargerThanMaximumSize() {
+    // when
+    final var sizedFilter = new MessageCorrelationFilter(Long.MAX_VALUE / 32);
+
+    // then
+    assertThat(sizedFilter.size()).isEqualTo(MessageCorrelationFilter.MAX_COUNTERS);
+  }
+
+  @Test
+  void shouldCountSubscriptions() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+    filter.add(TENANT, NAME, wrapString("order-2"));
+    filter.onCommit();
+
+    // when
+    filter.remove(TENANT, NAME, CORRELATION_KEY);
+    filter.add(TENANT, NAME, wrapString("order-3"));
+    filter.add(TENANT, NAME, wrapString("order-4"));
+
+    // then
+    assertThat(filter.subscriptions()).isEqualTo(3);
+    assertThat(filter.hasUncommittedChanges()).isTrue();
+
+    // when
+    filter.onRollback();
+
+    // then
+    assertThat(filter.subscriptions()).isEqualTo(2);
+    assertThat(filter.hasUncommittedChanges()).isFalse();
+  }
+
+  @Test
+  void shouldBeOverloadedWhenHoldingMoreSubscriptionsThanSizedFor() {
+    // given
+    final long capacity = filter.size() / MessageCorrelationFilter.COUNTERS_PER_SUBSCRIPTION;
+    for (int i = 0; i < capacity; i++) {
+      filter.add(TENANT, NAME, wrapString("order-" + i));
+    }
+
+    // when - then
+    assertThat(filter.isOverloaded()).isFalse();
+    filter.add(TENANT, NAME, wrapString("order-" + capacity));
+    assertThat(filter.isOverloaded()).isTrue();
+  }
+
+  @Test
+  void shouldNotBeOverloadedAtMaximumSize() {
+    // given
+    final var sizedFilter = new MessageCorrelationFilter(Long.MAX_VALUE / 32);
+    final long capacity =
+        MessageCorrelationFilter.MAX_COUNTERS / MessageCorrelationFilter.COUNTERS_PER_SUBSCRIPTION;
+
+    // when
+    for (int i = 0; i <= capacity; i++) {
+      sizedFilter.add(TENANT, NAME, wrapString("order-" + i));
+    }
+
+    // then
+    assertThat(sizedFilter.isOverloaded()).isFalse();
+  }
+
+  @Test
+  void shouldRemoveAllSubscriptionsOnReset() {
+    // given
+    filter.add(TENANT, NAME, CORRELATION_KEY);
+    filter.onCommit();
+    filter.add(TENANT, NAME, wrapString("order-2"));
+
+    // when
+    filter.reset(100_000 / 16);
+
+    // then
+    assertThat(filter.size()).isEqualTo(1 << 17);
+    assertThat(filter.subscriptions()).isZero();
+    assertThat(filter.hasUncommittedChanges()).isFalse();
+    assertThat(filter.mightContain(TENANT, NAME, CORRELATION_KEY)).isFalse();
+  }
+}
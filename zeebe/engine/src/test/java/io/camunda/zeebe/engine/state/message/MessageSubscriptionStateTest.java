@@ -9,12 +9,15 @@ package io.camunda.zeebe.engine.state.message;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.Before;
@@ -184,6 +187,143 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionIfRemovalIsRolledBack() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var transactionContext = db.createContext();
+      final var subscriptionState =
+          new DbMessageSubscriptionState(
+              db,
+              transactionContext,
+              new TransientPendingSubscriptionState(),
+              InstantSource.system());
+      subscriptionState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+      transactionContext.runInTransaction(
+          () -> subscriptionState.put(1L, subscription("messageName", "correlationKey", 1L)));
+
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(() -> subscriptionState.remove(1L, wrapString("messageName")));
+
+      // when
+      transaction.rollback();
+
+      // then
+      final List<Long> keys = new ArrayList<>();
+      subscriptionState.visitSubscriptions(
+          DEFAULT_TENANT,
+          wrapString("messageName"),
+          wrapString("correlationKey"),
+          s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+      assertThat(keys).containsExactly(1L);
+    }
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsWhichExistedBeforeCreatingTheState() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var transactionContext = db.createContext();
+      new DbMessageSubscriptionState(
+              db,
+              transactionContext,
+              new TransientPendingSubscriptionState(),
+              InstantSource.system())
+          .put(1L, subscription("messageName", "correlationKey", 1L));
+
+      // when
+      final var recoveredState =
+          new DbMessageSubscriptionState(
+              db,
+              transactionContext,
+              new TransientPendingSubscriptionState(),
+              InstantSource.system());
+      recoveredState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+
+      // then
+      final List<Long> keys = new ArrayList<>();
+      recoveredState.visitSubscriptions(
+          DEFAULT_TENANT,
+          wrapString("messageName"),
+          wrapString("correlationKey"),
+          s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+      assertThat(keys).containsExactly(1L);
+    }
+  }
+
+  @Test
+  public void shouldNotVisitSubscriptionOfOtherCorrelationKeyAfterRecovery() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var transactionContext = db.createContext();
+      final var subscriptionState =
+          new DbMessageSubscriptionState(
+              db,
+              transactionContext,
+              new TransientPendingSubscriptionState(),
+              InstantSource.system());
+      subscriptionState.put(1L, subscription("messageName", "correlationKey", 1L));
+      subscriptionState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+
+      // when
+      subscriptionState.put(2L, subscription("messageName", "otherCorrelationKey", 2L));
+
+      // then
+      final List<Long> keys = new ArrayList<>();
+      subscriptionState.visitSubscriptions(
+          DEFAULT_TENANT,
+          wrapString("messageName"),
+          wrapString("otherCorrelationKey"),
+          s -> keys.add(s.getRecord().getElementInstanceKey()));
+      subscriptionState.visitSubscriptions(
+          DEFAULT_TENANT,
+          wrapString("messageName"),
+          wrapString("unknownCorrelationKey"),
+          s -> keys.add(s.getRecord().getElementInstanceKey()));
+
+      assertThat(keys).containsExactly(2L);
+    }
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsAfterCorrelationFilterGrows() throws Exception {
+    // given
+    final int subscriptions =
+        2
+            * MessageCorrelationFilter.MIN_COUNTERS
+            / MessageCorrelationFilter.COUNTERS_PER_SUBSCRIPTION;
+    try (final var db = stateRule.createNewDb()) {
+      final var transactionContext = db.createContext();
+      final var subscriptionState =
+          new DbMessageSubscriptionState(
+              db,
+              transactionContext,
+              new TransientPendingSubscriptionState(),
+              InstantSource.system());
+      subscriptionState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+
+      // when
+      for (int i = 0; i < subscriptions; i++) {
+        final long key = i;
+        transactionContext.runInTransaction(
+            () -> subscriptionState.put(key, subscription("messageName", "key-" + key, key)));
+      }
+
+      // then
+      final List<Long> keys = new ArrayList<>();
+      for (int i = 0; i < subscriptions; i++) {
+        subscriptionState.visitSubscriptions(
+            DEFAULT_TENANT,
+            wrapString("messageName"),
+            wrapString("key-" + i),
+            s -> keys.add(s.getRecord().getElementInstanceKey()));
+      }
+      assertThat(keys).hasSize(subscriptions).doesNotHaveDuplicates();
+    }
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
@@ -241,6 +241,26 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldNotCollectHiddenVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b"), wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1, 'b': 3}");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
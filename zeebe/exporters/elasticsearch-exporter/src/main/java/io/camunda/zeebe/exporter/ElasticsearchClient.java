@@ -31,9 +31,12 @@ import io.micrometer.core.instrument.Timer.Sample;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -43,7 +46,7 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private BulkIndexRequest bulkIndexRequest;
 
   private final ElasticsearchMetrics metrics;
 
@@ -174,25 +177,95 @@ class ElasticsearchClient implements AutoCloseable {
     return putComponentTemplate(template);
   }
 
+  /**
+   * Detaches the current bulk request from this client, such that it can be sent via {@link
+   * #flushAsync(BulkIndexRequest)} while new records are indexed into a new, empty bulk request.
+   *
+   * @return the current bulk request, or null if it is empty
+   */
+  BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    final var bulk = bulkIndexRequest;
+    metrics.recordBulkSize(bulk.size());
+    metrics.recordBulkMemorySize(bulk.memoryUsageBytes());
+    metrics.stopFlushLatencyMeasurement(flushLatencyMeasurement);
+
+    bulkIndexRequest = new BulkIndexRequest();
+    return bulk;
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without waiting for the response. The bulk request is
+   * not modified, so it can be sent again if it fails.
+   *
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link ElasticsearchExporterException} otherwise
+   */
+  CompletableFuture<Void> flushAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final var flushDurationMeasurement = metrics.startFlushDurationMeasurement();
+
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            final BulkIndexResponse bulkResponse;
+            try {
+              bulkResponse = readResponse(response, BulkIndexResponse.class);
+            } catch (final IOException e) {
+              onFailure(e);
+              return;
+            }
+
+            if (bulkResponse.errors()) {
+              fail(collectBulkError(bulkResponse));
+            } else {
+              metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+              result.complete(null);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            fail(new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+
+          private void fail(final ElasticsearchExporterException exception) {
+            metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+            metrics.recordFailedFlush();
+            result.completeExceptionally(exception);
+          }
+        });
+
+    return result;
+  }
+
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
     }
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private static Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
+  private ElasticsearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -205,7 +278,7 @@ class ElasticsearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -268,7 +341,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
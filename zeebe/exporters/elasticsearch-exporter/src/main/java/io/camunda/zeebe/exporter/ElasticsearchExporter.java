@@ -19,10 +19,14 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -43,6 +47,8 @@ public class ElasticsearchExporter implements Exporter {
       Pattern.compile(PATTERN_MIN_AGE_FORMAT).asPredicate();
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  // how often in-flight bulks are checked for completion, if no records are exported meanwhile
+  private static final Duration IN_FLIGHT_BULKS_CHECK_INTERVAL = Duration.ofMillis(100);
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
 
@@ -50,14 +56,23 @@ public class ElasticsearchExporter implements Exporter {
       new ElasticsearchExporterMetadata();
   private final PluginRepository pluginRepository = new PluginRepository();
 
+  /**
+   * Bulks which were sent without waiting for their response, in the order they were sent. Only
+   * used if more than one in-flight request is configured.
+   */
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+
   private Controller controller;
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
   private ElasticsearchRecordCounters recordCounters;
   private MeterRegistry registry;
+  private ElasticsearchMetrics metrics;
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
+  private boolean inFlightBulksCheckScheduled;
+  private Timer.Sample bulkQueueMeasurement;
 
   @Override
   public void configure(final Context context) {
@@ -77,6 +92,7 @@ public class ElasticsearchExporter implements Exporter {
   @Override
   public void open(final Controller controller) {
     this.controller = controller;
+    metrics = new ElasticsearchMetrics(registry);
     client = createClient();
 
     recordCounters =
@@ -95,8 +111,12 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      awaitInFlightBulks();
+      // records of failed bulks are exported again after the exporter is opened again
+      if (inFlightBulks.isEmpty()) {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -124,11 +144,19 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    acknowledgeCompletedBulks();
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (client.shouldFlush() && isPipelined()) {
+      // Fails before the record counters are updated if no further bulk may be in flight. Then the
+      // exporter will be invoked with the same record again, like if a synchronous flush fails.
+      awaitInFlightCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      sendBulk();
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -156,6 +184,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -194,14 +229,25 @@ public class ElasticsearchExporter implements Exporter {
   protected ElasticsearchClient createClient() {
     return new ElasticsearchClient(
         configuration,
-        registry,
-        RestClientFactory.of(configuration, pluginRepository.asRequestInterceptor()));
+        new BulkIndexRequest(),
+        RestClientFactory.of(configuration, pluginRepository.asRequestInterceptor()),
+        new RecordIndexRouter(configuration.index),
+        new TemplateReader(configuration),
+        metrics);
   }
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isPipelined()) {
+        acknowledgeCompletedBulks();
+        resendFailedBulks();
+        if (inFlightBulks.size() < configuration.bulk.maxInFlightRequests) {
+          sendBulk();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -217,6 +263,111 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isPipelined() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  /**
+   * Sends the current bulk without waiting for its response. Its position is acknowledged once it
+   * and all bulks which were sent before it completed successfully, such that the acknowledged
+   * position never skips records.
+   */
+  private void sendBulk() {
+    final var bulk = client.detachBulk();
+    if (bulk == null) {
+      if (inFlightBulks.isEmpty()) {
+        updateLastExportedPosition();
+      }
+      return;
+    }
+
+    metrics.stopBulkQueueMeasurement(bulkQueueMeasurement);
+    bulkQueueMeasurement = null;
+
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var inFlightBulk =
+        new InFlightBulk(bulk, lastPosition, serializeExporterMetadata(exporterMetadata));
+    inFlightBulk.response = client.flushAsync(bulk);
+    inFlightBulks.addLast(inFlightBulk);
+    metrics.recordInFlightBulks(inFlightBulks.size());
+    scheduleInFlightBulksCheck();
+  }
+
+  /**
+   * Waits for the oldest in-flight bulk to complete if no further bulk may be sent, which bounds
+   * the memory used by in-flight bulks to the configured number of bulks.
+   *
+   * @throws ElasticsearchExporterException if no further bulk may be sent because the oldest one
+   *     failed; it is sent again with the next delayed flush
+   */
+  private void awaitInFlightCapacity() {
+    if (inFlightBulks.size() < configuration.bulk.maxInFlightRequests) {
+      return;
+    }
+
+    if (bulkQueueMeasurement == null) {
+      bulkQueueMeasurement = metrics.startBulkQueueMeasurement();
+    }
+
+    inFlightBulks.getFirst().await();
+    acknowledgeCompletedBulks();
+
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Expected to send a bulk request, but %d bulk requests are in flight and the oldest one failed",
+              inFlightBulks.size()),
+          inFlightBulks.getFirst().response.exceptionNow());
+    }
+  }
+
+  private void acknowledgeCompletedBulks() {
+    InFlightBulk acknowledgedBulk = null;
+    while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().isFlushed()) {
+      acknowledgedBulk = inFlightBulks.removeFirst();
+    }
+
+    if (acknowledgedBulk != null) {
+      controller.updateLastExportedRecordPosition(
+          acknowledgedBulk.position, acknowledgedBulk.metadata);
+      metrics.recordInFlightBulks(inFlightBulks.size());
+    }
+  }
+
+  private void resendFailedBulks() {
+    for (final var inFlightBulk : inFlightBulks) {
+      if (inFlightBulk.response.isCompletedExceptionally()) {
+        log.warn(
+            "Failed to flush bulk up to position {}, will retry.",
+            inFlightBulk.position,
+            inFlightBulk.response.exceptionNow());
+        inFlightBulk.response = client.flushAsync(inFlightBulk.request);
+      }
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    for (final var inFlightBulk : inFlightBulks) {
+      inFlightBulk.await();
+    }
+    acknowledgeCompletedBulks();
+  }
+
+  private void scheduleInFlightBulksCheck() {
+    if (!inFlightBulksCheckScheduled) {
+      inFlightBulksCheckScheduled = true;
+      controller.scheduleCancellableTask(IN_FLIGHT_BULKS_CHECK_INTERVAL, this::checkInFlightBulks);
+    }
+  }
+
+  private void checkInFlightBulks() {
+    inFlightBulksCheckScheduled = false;
+    acknowledgeCompletedBulks();
+    if (!inFlightBulks.isEmpty()) {
+      scheduleInFlightBulksCheck();
+    }
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
@@ -397,6 +548,33 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  /**
+   * A bulk which was sent without waiting for its response, together with the position and metadata
+   * to acknowledge once it completed.
+   */
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request, final long position, final byte[] metadata) {
+      this.request = request;
+      this.position = position;
+      this.metadata = metadata;
+    }
+
+    private boolean isFlushed() {
+      return response.isDone() && !response.isCompletedExceptionally();
+    }
+
+    private void await() {
+      // failures are handled when the bulk is acknowledged or sent again
+      response.exceptionally(error -> null).join();
+    }
+  }
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
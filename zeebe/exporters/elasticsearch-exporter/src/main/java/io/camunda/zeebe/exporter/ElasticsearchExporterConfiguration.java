@@ -338,6 +338,8 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // bulks which may be sent before the previous ones completed; 1 flushes synchronously
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -348,6 +350,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -20,10 +20,12 @@ public class ElasticsearchMetrics {
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger inFlightBulks = new AtomicInteger(0);
   private final Timer flushDuration;
   private final DistributionSummary bulkSize;
   private final Counter failedFlush;
   private final Timer flushLatency;
+  private final Timer bulkQueueDuration;
 
   public ElasticsearchMetrics(final MeterRegistry registry) {
     meterRegistry = registry;
@@ -56,12 +58,32 @@ public class ElasticsearchMetrics {
                 "Time of how long a export buffer is open and collects new records before flushing, meaning latency until the next flush is done.")
             .publishPercentileHistogram()
             .register(meterRegistry);
+
+    Gauge.builder(meterName("bulk.inflight"), inFlightBulks, AtomicInteger::get)
+        .description(
+            "Number of bulk requests which were sent, but whose records are not yet acknowledged")
+        .register(meterRegistry);
+
+    bulkQueueDuration =
+        Timer.builder(meterName("bulk.queue.duration.seconds"))
+            .description(
+                "Time a full bulk request waits for an in-flight bulk request to complete before it can be sent")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
   }
 
   public void measureFlushDuration(final Runnable flushFunction) {
     flushDuration.record(flushFunction);
   }
 
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(flushDuration);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     this.bulkSize.record(bulkSize);
   }
@@ -70,6 +92,10 @@ public class ElasticsearchMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordInFlightBulks(final int inFlightBulks) {
+    this.inFlightBulks.set(inFlightBulks);
+  }
+
   public void recordFailedFlush() {
     failedFlush.increment();
   }
@@ -87,4 +113,14 @@ public class ElasticsearchMetrics {
       flushLatencySample.stop(flushLatency);
     }
   }
+
+  public Timer.Sample startBulkQueueMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopBulkQueueMeasurement(final Timer.Sample bulkQueueSample) {
+    if (bulkQueueSample != null) {
+      bulkQueueSample.stop(bulkQueueDuration);
+    }
+  }
 }
@@ -35,9 +35,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 
 public class OpensearchClient implements AutoCloseable {
@@ -48,7 +51,7 @@ public class OpensearchClient implements AutoCloseable {
   private final OpensearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private BulkIndexRequest bulkIndexRequest;
 
   private final OpensearchMetrics metrics;
 
@@ -164,24 +167,102 @@ public class OpensearchClient implements AutoCloseable {
     return putComponentTemplate(template);
   }
 
+  /**
+   * Detaches the current bulk request from this client, such that it can be sent via {@link
+   * #flushAsync(BulkIndexRequest)} while new records are indexed into a new, empty bulk request.
+   *
+   * @return the current bulk request, or null if it is empty
+   */
+  BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    final var bulk = bulkIndexRequest;
+    metrics.recordBulkSize(bulk.size());
+    metrics.recordBulkMemorySize(bulk.memoryUsageBytes());
+
+    bulkIndexRequest = new BulkIndexRequest();
+    return bulk;
+  }
+
+  /**
+   * Sends the given bulk request to Opensearch without waiting for the response. The bulk request
+   * is not modified, so it can be sent again if it fails.
+   *
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link OpensearchExporterException} otherwise
+   */
+  CompletableFuture<Void> flushAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final var flushDuration = metrics.measureFlushDuration();
+    final Request request;
+    try {
+      request = createBulkRequest(bulk);
+    } catch (final IOException e) {
+      flushDuration.close();
+      metrics.recordFailedFlush();
+      return CompletableFuture.failedFuture(
+          new OpensearchExporterException("Failed to flush bulk", e));
+    }
+
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            final BulkIndexResponse bulkResponse;
+            try {
+              bulkResponse = readResponse(response, BulkIndexResponse.class);
+            } catch (final IOException e) {
+              onFailure(e);
+              return;
+            }
+
+            if (bulkResponse.errors()) {
+              fail(collectBulkError(bulkResponse));
+            } else {
+              flushDuration.close();
+              result.complete(null);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            fail(new OpensearchExporterException("Failed to flush bulk", exception));
+          }
+
+          private void fail(final OpensearchExporterException exception) {
+            flushDuration.close();
+            metrics.recordFailedFlush();
+            result.completeExceptionally(exception);
+          }
+        });
+
+    return result;
+  }
+
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new OpensearchExporterException("Failed to flush bulk", e);
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
     }
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private static Request createBulkRequest(final BulkIndexRequest bulk) throws IOException {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    request.setJsonEntity(new String(body.getContent().readAllBytes()));
+    return request;
+  }
+
+  private OpensearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -194,7 +275,7 @@ public class OpensearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new OpensearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -316,7 +397,11 @@ public class OpensearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
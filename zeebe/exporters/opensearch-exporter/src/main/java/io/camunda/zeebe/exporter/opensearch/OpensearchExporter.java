@@ -19,8 +19,12 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer.ResourceSample;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +32,8 @@ public class OpensearchExporter implements Exporter {
 
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  // how often in-flight bulks are checked for completion, if no records are exported meanwhile
+  private static final Duration IN_FLIGHT_BULKS_CHECK_INTERVAL = Duration.ofMillis(100);
 
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
@@ -35,14 +41,23 @@ public class OpensearchExporter implements Exporter {
   private final OpensearchExporterMetadata exporterMetadata = new OpensearchExporterMetadata();
   private final PluginRepository pluginRepository = new PluginRepository();
 
+  /**
+   * Bulks which were sent without waiting for their response, in the order they were sent. Only
+   * used if more than one in-flight request is configured.
+   */
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+
   private Controller controller;
   private OpensearchExporterConfiguration configuration;
   private OpensearchClient client;
   private OpensearchRecordCounters recordCounters;
   private MeterRegistry meterRegistry;
+  private OpensearchMetrics metrics;
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
+  private boolean inFlightBulksCheckScheduled;
+  private ResourceSample bulkQueueMeasurement;
 
   @Override
   public void configure(final Context context) {
@@ -61,6 +76,7 @@ public class OpensearchExporter implements Exporter {
   @Override
   public void open(final Controller controller) {
     this.controller = controller;
+    metrics = new OpensearchMetrics(meterRegistry);
     client = createClient();
 
     recordCounters =
@@ -79,8 +95,12 @@ public class OpensearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      awaitInFlightBulks();
+      // records of failed bulks are exported again after the exporter is opened again
+      if (inFlightBulks.isEmpty()) {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -108,11 +128,19 @@ public class OpensearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    acknowledgeCompletedBulks();
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (client.shouldFlush() && isPipelined()) {
+      // Fails before the record counters are updated if no further bulk may be in flight. Then the
+      // exporter will be invoked with the same record again, like if a synchronous flush fails.
+      awaitInFlightCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      sendBulk();
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -140,6 +168,13 @@ public class OpensearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Opensearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -159,14 +194,25 @@ public class OpensearchExporter implements Exporter {
   protected OpensearchClient createClient() {
     return new OpensearchClient(
         configuration,
-        meterRegistry,
-        RestClientFactory.of(configuration, pluginRepository.asRequestInterceptor()));
+        new BulkIndexRequest(),
+        RestClientFactory.of(configuration, pluginRepository.asRequestInterceptor()),
+        new RecordIndexRouter(configuration.index),
+        new TemplateReader(configuration.index),
+        metrics);
   }
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isPipelined()) {
+        acknowledgeCompletedBulks();
+        resendFailedBulks();
+        if (inFlightBulks.size() < configuration.bulk.maxInFlightRequests) {
+          sendBulk();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -182,6 +228,113 @@ public class OpensearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isPipelined() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  /**
+   * Sends the current bulk without waiting for its response. Its position is acknowledged once it
+   * and all bulks which were sent before it completed successfully, such that the acknowledged
+   * position never skips records.
+   */
+  private void sendBulk() {
+    final var bulk = client.detachBulk();
+    if (bulk == null) {
+      if (inFlightBulks.isEmpty()) {
+        updateLastExportedPosition();
+      }
+      return;
+    }
+
+    if (bulkQueueMeasurement != null) {
+      bulkQueueMeasurement.close();
+      bulkQueueMeasurement = null;
+    }
+
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var inFlightBulk =
+        new InFlightBulk(bulk, lastPosition, serializeExporterMetadata(exporterMetadata));
+    inFlightBulk.response = client.flushAsync(bulk);
+    inFlightBulks.addLast(inFlightBulk);
+    metrics.recordInFlightBulks(inFlightBulks.size());
+    scheduleInFlightBulksCheck();
+  }
+
+  /**
+   * Waits for the oldest in-flight bulk to complete if no further bulk may be sent, which bounds
+   * the memory used by in-flight bulks to the configured number of bulks.
+   *
+   * @throws OpensearchExporterException if no further bulk may be sent because the oldest one
+   *     failed; it is sent again with the next delayed flush
+   */
+  private void awaitInFlightCapacity() {
+    if (inFlightBulks.size() < configuration.bulk.maxInFlightRequests) {
+      return;
+    }
+
+    if (bulkQueueMeasurement == null) {
+      bulkQueueMeasurement = metrics.measureBulkQueueDuration();
+    }
+
+    inFlightBulks.getFirst().await();
+    acknowledgeCompletedBulks();
+
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      throw new OpensearchExporterException(
+          String.format(
+              "Expected to send a bulk request, but %d bulk requests are in flight and the oldest one failed",
+              inFlightBulks.size()),
+          inFlightBulks.getFirst().response.exceptionNow());
+    }
+  }
+
+  private void acknowledgeCompletedBulks() {
+    InFlightBulk acknowledgedBulk = null;
+    while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().isFlushed()) {
+      acknowledgedBulk = inFlightBulks.removeFirst();
+    }
+
+    if (acknowledgedBulk != null) {
+      controller.updateLastExportedRecordPosition(
+          acknowledgedBulk.position, acknowledgedBulk.metadata);
+      metrics.recordInFlightBulks(inFlightBulks.size());
+    }
+  }
+
+  private void resendFailedBulks() {
+    for (final var inFlightBulk : inFlightBulks) {
+      if (inFlightBulk.response.isCompletedExceptionally()) {
+        log.warn(
+            "Failed to flush bulk up to position {}, will retry.",
+            inFlightBulk.position,
+            inFlightBulk.response.exceptionNow());
+        inFlightBulk.response = client.flushAsync(inFlightBulk.request);
+      }
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    for (final var inFlightBulk : inFlightBulks) {
+      inFlightBulk.await();
+    }
+    acknowledgeCompletedBulks();
+  }
+
+  private void scheduleInFlightBulksCheck() {
+    if (!inFlightBulksCheckScheduled) {
+      inFlightBulksCheckScheduled = true;
+      controller.scheduleCancellableTask(IN_FLIGHT_BULKS_CHECK_INTERVAL, this::checkInFlightBulks);
+    }
+  }
+
+  private void checkInFlightBulks() {
+    inFlightBulksCheckScheduled = false;
+    acknowledgeCompletedBulks();
+    if (!inFlightBulks.isEmpty()) {
+      scheduleInFlightBulksCheck();
+    }
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
@@ -388,6 +541,33 @@ public class OpensearchExporter implements Exporter {
     }
   }
 
+  /**
+   * A bulk which was sent without waiting for its response, together with the position and metadata
+   * to acknowledge once it completed.
+   */
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request, final long position, final byte[] metadata) {
+      this.request = request;
+      this.position = position;
+      this.metadata = metadata;
+    }
+
+    private boolean isFlushed() {
+      return response.isDone() && !response.isCompletedExceptionally();
+    }
+
+    private void await() {
+      // failures are handled when the bulk is acknowledged or sent again
+      response.exceptionally(error -> null).join();
+    }
+  }
+
   private static class OpensearchRecordFilter implements Context.RecordFilter {
 
     private final OpensearchExporterConfiguration configuration;
@@ -326,6 +326,8 @@ public class OpensearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // bulks which may be sent before the previous ones completed; 1 flushes synchronously
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -336,6 +338,8 @@ public class OpensearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -21,6 +21,7 @@ public class OpensearchMetrics {
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger inFlightBulks = new AtomicInteger(0);
 
   public OpensearchMetrics(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -49,6 +50,22 @@ public class OpensearchMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordInFlightBulks(final int inFlightBulks) {
+    Gauge.builder(meterName("bulk.inflight"), this.inFlightBulks, AtomicInteger::get)
+        .description(
+            "Number of bulk requests which were sent, but whose records are not yet acknowledged")
+        .register(meterRegistry);
+
+    this.inFlightBulks.set(inFlightBulks);
+  }
+
+  public ResourceSample measureBulkQueueDuration() {
+    return Timer.resource(meterRegistry, meterName("bulk.queue.duration.seconds"))
+        .description(
+            "Time a full bulk request waits for an in-flight bulk request to complete before it can be sent")
+        .publishPercentileHistogram();
+  }
+
   public void recordFailedFlush() {
     Counter.builder(meterName("failed.flush"))
         .description("Number of failed flush operations")
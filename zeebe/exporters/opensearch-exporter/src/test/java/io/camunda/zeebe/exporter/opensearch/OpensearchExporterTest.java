@@ -34,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -371,6 +372,132 @@ final class OpensearchExporterTest {
     }
   }
 
+  @Nested
+  final class PipelinedFlushTest {
+    private final BulkIndexRequest firstBulk = new BulkIndexRequest();
+    private final BulkIndexRequest secondBulk = new BulkIndexRequest();
+    private final CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+    private final CompletableFuture<Void> secondResponse = new CompletableFuture<>();
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.detachBulk()).thenReturn(firstBulk, secondBulk, null);
+      when(client.flushAsync(any())).thenReturn(firstResponse, secondResponse);
+    }
+
+    @Test
+    void shouldNotWaitForResponseOfSentBulks() {
+      // when
+      exporter.export(record(1L));
+      exporter.export(record(2L));
+
+      // then
+      verify(client).flushAsync(firstBulk);
+      verify(client).flushAsync(secondBulk);
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldAcknowledgePositionsInOrder() {
+      // given
+      exporter.export(record(1L));
+      exporter.export(record(2L));
+
+      // when
+      secondResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofMillis(100));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofMillis(100));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldSendBulkOnceOldestInFlightBulkCompleted() {
+      // given
+      final var thirdBulk = new BulkIndexRequest();
+      when(client.detachBulk()).thenReturn(firstBulk, secondBulk, thirdBulk);
+      when(client.flushAsync(any()))
+          .thenReturn(firstResponse, secondResponse, new CompletableFuture<>());
+      exporter.export(record(1L));
+      exporter.export(record(2L));
+
+      // when
+      firstResponse.complete(null);
+      exporter.export(record(3L));
+
+      // then
+      verify(client).flushAsync(thirdBulk);
+      assertThat(controller.getPosition()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFailExportIfOldestInFlightBulkFailed() {
+      // given
+      exporter.export(record(1L));
+      exporter.export(record(2L));
+
+      // when
+      firstResponse.completeExceptionally(new OpensearchExporterException("failed to flush"));
+
+      // then
+      assertThatCode(() -> exporter.export(record(3L)))
+          .isInstanceOf(OpensearchExporterException.class);
+      verify(client, times(2)).flushAsync(any());
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldResendFailedBulkOnDelayedFlush() {
+      // given
+      when(client.detachBulk()).thenReturn(firstBulk, null);
+      exporter.export(record(1L));
+      firstResponse.completeExceptionally(new OpensearchExporterException("failed to flush"));
+      when(client.flushAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+      controller.runScheduledTasks(Duration.ofMillis(100));
+
+      // then
+      verify(client, times(2)).flushAsync(firstBulk);
+      assertThat(controller.getPosition()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldAwaitInFlightBulksOnClose() {
+      // given
+      exporter.export(record(1L));
+      exporter.export(record(2L));
+      firstResponse.complete(null);
+      secondResponse.complete(null);
+
+      // when
+      exporter.close();
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(2L);
+    }
+
+    private Record<?> record(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+  }
+
   @Nested
   final class ValidationTest {
     @Test
@@ -392,6 +519,18 @@ final class OpensearchExporterTest {
       assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context))
+          .isInstanceOf(ExporterException.class)
+          .hasMessageContaining("maxInFlightRequests must be >= 1");
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 final class FrameUtil {
 
   private static final byte VERSION = 1;
+  // the record of a frame with this version is compressed, see RecordCompression
+  private static final byte COMPRESSED_VERSION = 2;
   private static final byte IGNORE = 0;
   private static final int LENGTH = 1;
 
@@ -29,6 +31,15 @@ final class FrameUtil {
     write(buffer, offset, VERSION);
   }
 
+  static void writeCompressedVersion(final ByteBuffer buffer, final int offset) {
+    write(buffer, offset, COMPRESSED_VERSION);
+  }
+
+  /** Returns true if the frame with the given version contains a compressed record. */
+  static boolean isCompressed(final int version) {
+    return version == COMPRESSED_VERSION;
+  }
+
   static void markAsIgnored(final ByteBuffer buffer, final int offset) {
     write(buffer, offset, IGNORE);
   }
@@ -89,4 +89,35 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Adds the given mapping as is, e.g. to restore a previously persisted index. Unlike {@link
+   * #index(JournalRecord, int)}, the density of the index is not applied.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE}
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Calls the given consumer with each mapping for indexes between the given indexes (inclusive),
+   * in ascending order of the index.
+   *
+   * @param fromIndex the lowest index
+   * @param toIndex the highest index
+   * @param consumer called with each mapping
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+
+    /**
+     * @param index the index of the record
+     * @param position the position of the record within its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE}
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
@@ -112,6 +112,24 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Histogram COMPRESSION_RATIO =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_compression_ratio")
+          .help(
+              "Distribution of the ratio between the uncompressed and the stored size of appended records, if compression is enabled")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 1.25, 1.5, 2, 3, 4, 6, 8, 12, 16)
+          .register();
+
+  private static final Counter COMPRESSION_SAVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_compression_saved_bytes")
+          .help("The number of bytes saved by compressing appended records")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -123,6 +141,8 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child compressionRatio;
+  private final Counter.Child compressionSavedBytes;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -136,6 +156,8 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    compressionRatio = COMPRESSION_RATIO.labels(partitionId);
+    compressionSavedBytes = COMPRESSION_SAVED_BYTES.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -175,6 +197,11 @@ final class JournalMetrics {
     appendDataRate.inc(appendedBytes / 1024f);
   }
 
+  void observeCompression(final int uncompressedLength, final int storedLength) {
+    compressionRatio.observe((double) uncompressedLength / storedLength);
+    compressionSavedBytes.inc(uncompressedLength - storedLength);
+  }
+
   Histogram.Timer observeAppendLatency() {
     return appendLatency.startTimer();
   }
@@ -62,14 +62,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean compressRecords) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = createWriter(lastWrittenAsqn, metrics, compressRecords);
   }
 
   /**
@@ -190,8 +191,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+  private SegmentWriter createWriter(
+      final long lastWrittenAsqn, final JournalMetrics metrics, final boolean compressRecords) {
+    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, compressRecords);
   }
 
   /**
@@ -270,6 +272,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
 
     final var target = file.getFileMarkedForDeletion();
+    SegmentIndexFile.delete(file);
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
     } catch (final IOException e) {
@@ -278,6 +281,29 @@ final class Segment implements AutoCloseable, FlushableSegment {
     markedForDeletion = true;
   }
 
+  int lastEntryPosition() {
+    return writer.getLastEntryPosition();
+  }
+
+  /** Persists the index entries of this segment, which must not be modified afterwards. */
+  void persistIndex() {
+    SegmentIndexFile.write(this, index);
+  }
+
+  /**
+   * Restores the index entries of this segment, if they were persisted before.
+   *
+   * @return true if the index entries were restored, false otherwise
+   */
+  boolean restoreIndex() {
+    return SegmentIndexFile.load(this, index);
+  }
+
+  /** Deletes the persisted index entries, which must be done before modifying the segment. */
+  void deletePersistedIndex() {
+    SegmentIndexFile.delete(file);
+  }
+
   void updateDescriptor() {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
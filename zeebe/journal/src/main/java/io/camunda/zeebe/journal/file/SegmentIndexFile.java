@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.MutableInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a segment next to the segment file, such that they
+ * can be restored when the journal is opened again, instead of scanning the segment to rebuild
+ * them.
+ *
+ * <p>The file is only written for segments which are full, i.e. when the journal rolls over to the
+ * next segment, and it must be deleted before the segment is modified again, e.g. when it is
+ * truncated or deleted. As an additional safeguard, the file contains the id, first and last index,
+ * and last entry position of the segment it was written for, and a checksum. If any of these don't
+ * match, the file is ignored, since the index can always be rebuilt from the segment.
+ *
+ * <p>The file consists of a header, followed by the entries and the checksum of all preceding
+ * bytes:
+ *
+ * <pre>
+ * | version (int) | segment id (long) | first index (long) | last index (long) |
+ * | last entry position (int) | entry count (int) |
+ * | index (long) | position (int) | asqn (long) | ... |
+ * | checksum (long) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String EXTENSION = ".idx";
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = 36;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /** Returns the path of the index file of the given segment file. */
+  static Path of(final SegmentFile segmentFile) {
+    return segmentFile.file().toPath().resolveSibling(segmentFile.name() + EXTENSION);
+  }
+
+  /**
+   * Writes the index entries of the given segment. Failures are only logged, as the index file is
+   * merely an optimization.
+   */
+  static void write(final Segment segment, final JournalIndex index) {
+    final Path path = of(segment.file());
+    final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+    final long firstIndex = segment.index();
+    final long lastIndex = segment.lastIndex();
+
+    // readers may add entries concurrently, so the entries are collected before they are counted
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    final MutableInteger offset = new MutableInteger(HEADER_LENGTH);
+    index.forEach(
+        firstIndex,
+        lastIndex,
+        (entryIndex, position, asqn) -> {
+          buffer.putLong(offset.get(), entryIndex, ENDIANNESS);
+          buffer.putInt(offset.get() + Long.BYTES, position, ENDIANNESS);
+          buffer.putLong(offset.get() + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+          offset.addAndGet(ENTRY_LENGTH);
+        });
+    final int entryCount = (offset.get() - HEADER_LENGTH) / ENTRY_LENGTH;
+
+    buffer.putInt(0, VERSION, ENDIANNESS);
+    buffer.putLong(4, segment.id(), ENDIANNESS);
+    buffer.putLong(12, firstIndex, ENDIANNESS);
+    buffer.putLong(20, lastIndex, ENDIANNESS);
+    buffer.putInt(28, segment.lastEntryPosition(), ENDIANNESS);
+    buffer.putInt(32, entryCount, ENDIANNESS);
+    buffer.putLong(offset.get(), checksum(buffer.byteArray(), offset.get()), ENDIANNESS);
+
+    try {
+      Files.write(temporaryPath, Arrays.copyOf(buffer.byteArray(), offset.get() + CHECKSUM_LENGTH));
+      Files.move(
+          temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn("Failed to write index file {} of segment {}", path, segment, e);
+    }
+  }
+
+  /**
+   * Restores the index entries of the given segment from its index file, if there is a valid one.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  static boolean load(final Segment segment, final JournalIndex index) {
+    final Path path = of(segment.file());
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {} of segment {}", path, segment, e);
+      return false;
+    }
+
+    if (!isValid(content, segment)) {
+      LOG.debug("Ignoring outdated or corrupted index file {} of segment {}", path, segment);
+      return false;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < entryCount; i++) {
+      index.restore(buffer.getLong(), buffer.getInt(), buffer.getLong());
+    }
+
+    LOG.trace("Restored {} index entries of segment {} from {}", entryCount, segment, path);
+    return true;
+  }
+
+  /**
+   * Deletes the index file of the given segment, if it exists.
+   *
+   * @throws JournalException if the file cannot be deleted
+   */
+  static void delete(final SegmentFile segmentFile) {
+    final Path path = of(segmentFile);
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to delete index file %s of segment %s", path, segmentFile.name()),
+          e);
+    }
+  }
+
+  /**
+   * Deletes the index files, and leftovers from writing them, of segments which do not exist
+   * anymore, e.g. because the node stopped while deleting the segment. Failures are only logged.
+   */
+  static void deleteOrphaned(final String journalName, final Path directory) {
+    try (final var files =
+        Files.newDirectoryStream(directory, "*" + EXTENSION + "{," + TEMPORARY_EXTENSION + "}")) {
+      for (final Path file : files) {
+        final String fileName = file.getFileName().toString();
+        final String segmentName = fileName.substring(0, fileName.lastIndexOf(EXTENSION));
+        if (SegmentFile.isSegmentFile(journalName, segmentName)
+            && !Files.exists(file.resolveSibling(segmentName))) {
+          Files.deleteIfExists(file);
+        }
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete orphaned index files in {}", directory, e);
+    }
+  }
+
+  private static boolean isValid(final byte[] content, final Segment segment) {
+    if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    final int checksumOffset = content.length - CHECKSUM_LENGTH;
+    if (buffer.getLong(checksumOffset) != checksum(content, checksumOffset)) {
+      return false;
+    }
+
+    final int version = buffer.getInt();
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastEntryPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+    if (version != VERSION
+        || segmentId != segment.id()
+        || firstIndex != segment.index()
+        || lastIndex != segment.lastIndex()
+        || lastEntryPosition != segment.lastEntryPosition()
+        || entryCount < 0
+        || HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH != checksumOffset) {
+      return false;
+    }
+
+    final int maxPosition = segment.descriptor().maxSegmentSize();
+    for (int i = 0; i < entryCount; i++) {
+      final long index = buffer.getLong();
+      final int position = buffer.getInt();
+      buffer.getLong(); // asqn
+      if (index < firstIndex
+          || index > lastIndex
+          || position < segment.descriptor().length()
+          || position >= maxPosition) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static long checksum(final byte[] content, final int length) {
+    final CRC32C crc = new CRC32C();
+    crc.update(content, 0, length);
+    return crc.getValue();
+  }
+}
@@ -62,9 +62,10 @@ final class SegmentReader implements Iterator<JournalRecord> {
     }
 
     // Read version so that buffer's position is advanced.
-    FrameUtil.readVersion(buffer);
+    final int version = FrameUtil.readVersion(buffer);
 
-    final var currentEntry = recordReader.read(buffer, getNextIndex());
+    final var currentEntry =
+        recordReader.read(buffer, getNextIndex(), FrameUtil.isCompressed(version));
     // currentEntry should not be null as hasNext returns true
     currentIndex = currentEntry.index();
     return currentEntry;
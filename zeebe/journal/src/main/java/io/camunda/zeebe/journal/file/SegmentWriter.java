@@ -27,6 +27,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -35,6 +36,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -59,13 +61,16 @@ final class SegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  // null if records are not compressed
+  private final RecordCompression compression;
 
   SegmentWriter(
       final MappedByteBuffer buffer,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean compressRecords) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -77,6 +82,7 @@ final class SegmentWriter {
     lastAsqn = lastWrittenAsqn;
     lastEntryPosition = segment.descriptor().lastPosition();
     this.metrics = metrics;
+    compression = compressRecords ? new RecordCompression() : null;
     if (lastEntryPosition > 0) {
       LOG.trace(
           "Found lastEntryPosition {} and lastIndex {} in descriptor.",
@@ -224,9 +230,8 @@ final class SegmentWriter {
       final int frameLength,
       final int metadataLength,
       final int recordLength) {
-    final long checksum =
-        checksumGenerator.compute(
-            buffer, startPosition + frameLength + metadataLength, recordLength);
+    final int recordOffset = startPosition + frameLength + metadataLength;
+    final long checksum = checksumGenerator.compute(buffer, recordOffset, recordLength);
 
     if (expectedChecksum != null && expectedChecksum != checksum) {
       buffer.position(startPosition);
@@ -236,34 +241,47 @@ final class SegmentWriter {
               checksum, expectedChecksum));
     }
 
-    writeMetadata(startPosition, frameLength, recordLength, checksum);
+    final DirectBuffer serializedRecord;
+    final int storedLength;
+    if (compression != null) {
+      // the compressed record replaces the uncompressed one in the segment, so keep a copy of the
+      // latter for the last written entry, which may be replicated as is
+      final byte[] uncompressedRecord = new byte[recordLength];
+      writeBuffer.getBytes(recordOffset, uncompressedRecord);
+      serializedRecord = new UnsafeBuffer(uncompressedRecord);
+      final int compressedLength =
+          compression.compress(uncompressedRecord, writeBuffer, recordOffset);
+      storedLength = compressedLength > 0 ? compressedLength : recordLength;
+      metrics.observeCompression(recordLength, storedLength);
+    } else {
+      serializedRecord = new UnsafeBuffer(writeBuffer, recordOffset, recordLength);
+      storedLength = recordLength;
+    }
+
+    writeMetadata(startPosition, frameLength, storedLength, checksum);
 
-    final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
+    final int nextEntryOffset = recordOffset + storedLength;
     invalidateNextEntry(nextEntryOffset);
 
-    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
-    FrameUtil.writeVersion(buffer, startPosition);
+    updateLastWrittenEntry(
+        startPosition, new RecordMetadata(checksum, recordLength), serializedRecord);
+    if (storedLength < recordLength) {
+      FrameUtil.writeCompressedVersion(buffer, startPosition);
+    } else {
+      FrameUtil.writeVersion(buffer, startPosition);
+    }
 
-    final int appendedBytes = frameLength + metadataLength + recordLength;
+    final int appendedBytes = frameLength + metadataLength + storedLength;
     buffer.position(startPosition + appendedBytes);
     metrics.observeAppend(appendedBytes);
   }
 
   private void updateLastWrittenEntry(
-      final int startPosition,
-      final int frameLength,
-      final int metadataLength,
-      final int recordLength) {
-    final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
-    final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
+      final int startPosition, final RecordMetadata metadata, final DirectBuffer serializedRecord) {
+    final var data = serializer.readData(serializedRecord, 0);
     verifyNoIndexGap(data.index(), getNextIndex());
 
-    lastEntry =
-        new PersistedJournalRecord(
-            metadata,
-            data,
-            new UnsafeBuffer(
-                writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+    lastEntry = new PersistedJournalRecord(metadata, data, serializedRecord);
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
@@ -338,8 +356,8 @@ final class SegmentWriter {
   // Reads the current entry and advance the buffer position to the start of next entry.
   private void advanceToNextEntry(final long nextIndex) {
     final int position = buffer.position();
-    FrameUtil.readVersion(buffer);
-    lastEntry = recordUtil.read(buffer, nextIndex);
+    final int version = FrameUtil.readVersion(buffer);
+    lastEntry = recordUtil.read(buffer, nextIndex, FrameUtil.isCompressed(version));
     updateLastAsqn(lastEntry.asqn());
     lastEntryPosition = position;
     index.index(lastEntry, position);
@@ -32,6 +32,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_COMPRESS_RECORDS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +44,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressRecords = DEFAULT_COMPRESS_RECORDS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +142,23 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether records are compressed before they are written to a segment. Compression is
+   * transparent to readers, which always return the uncompressed record, and the checksum of a
+   * record is always computed over the uncompressed record. Records which do not become smaller
+   * when compressed are written as is.
+   *
+   * <p>Segments written with compression enabled can still be read after disabling it again, but
+   * cannot be read by versions which do not support compression.
+   *
+   * @param compressRecords true to compress records, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecordCompression(final boolean compressRecords) {
+    this.compressRecords = compressRecords;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +185,8 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, compressRecords);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -110,8 +110,9 @@ final class SegmentedJournalWriter {
       currentWriter = currentSegment.writer();
     }
 
-    // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
-    // the old truncated entry.
+    // Reset last entry position in descriptor to 0, and delete the persisted index, to ensure that
+    // after a restart it is not using the old truncated entry.
+    currentSegment.deletePersistedIndex();
     currentSegment.resetLastEntryInDescriptor();
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
@@ -127,6 +128,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
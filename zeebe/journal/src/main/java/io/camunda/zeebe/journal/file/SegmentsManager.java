@@ -314,6 +314,7 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    SegmentIndexFile.deleteOrphaned(name, directory.toPath());
   }
 
   private void prepareNextSegment() {
@@ -384,6 +385,10 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (segment.restoreIndex()) {
+          LOG.debug("Restored index of segment {}", segment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -443,6 +448,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        SegmentIndexFile.delete(new SegmentFile(file));
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
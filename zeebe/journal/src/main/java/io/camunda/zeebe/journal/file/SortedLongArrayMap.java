@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * A map of primitive long keys to long values, sorted by key and backed by arrays. Reading it
+ * neither locks nor allocates, and is safe while the map is modified concurrently.
+ *
+ * <p>The map is optimized for the way the journal index is built: entries are almost always added
+ * in ascending order of their keys, which appends them in place. Any other modification, i.e.
+ * inserting an entry before the last one, replacing a value, or deleting entries, copies the arrays
+ * instead, such that the entries below the published size of an {@link Entries} view never change.
+ * Modifications are serialized with each other, since readers may add entries while the writer
+ * appends.
+ */
+final class SortedLongArrayMap {
+
+  /** Returned by the lookups of {@link Entries} if there is no matching slot. */
+  static final int NOT_FOUND = -1;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private volatile Entries entries = new Entries(INITIAL_CAPACITY, 0);
+
+  /**
+   * Returns a view of the current entries, which does not change anymore, except for entries
+   * appended beyond its size. To get a consistent result, lookups should be done on a single view.
+   */
+  Entries entries() {
+    return entries;
+  }
+
+  /**
+   * Adds the given entry, replacing the value of an existing entry with the same key.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry
+   */
+  synchronized void put(final long key, final long value) {
+    final Entries current = entries;
+    final int size = current.size;
+
+    if (size == 0 || key > current.keys[size - 1]) {
+      if (size < current.capacity()) {
+        current.keys[size] = key;
+        current.values[size] = value;
+        // publishes the entry to readers of this view, as the size is volatile
+        current.size = size + 1;
+      } else {
+        final Entries grown = current.copy(0, size, 2 * size);
+        grown.keys[size] = key;
+        grown.values[size] = value;
+        grown.size = size + 1;
+        entries = grown;
+      }
+      return;
+    }
+
+    final int floorSlot = current.floorSlot(key);
+    if (floorSlot != NOT_FOUND && current.keys[floorSlot] == key) {
+      if (current.values[floorSlot] != value) {
+        final Entries replaced = current.copy(0, size, current.capacity());
+        replaced.values[floorSlot] = value;
+        entries = replaced;
+      }
+      return;
+    }
+
+    final int insertSlot = floorSlot + 1;
+    final int capacity = size < current.capacity() ? current.capacity() : 2 * size;
+    final Entries inserted = new Entries(capacity, size + 1);
+    System.arraycopy(current.keys, 0, inserted.keys, 0, insertSlot);
+    System.arraycopy(current.values, 0, inserted.values, 0, insertSlot);
+    inserted.keys[insertSlot] = key;
+    inserted.values[insertSlot] = value;
+    System.arraycopy(current.keys, insertSlot, inserted.keys, insertSlot + 1, size - insertSlot);
+    System.arraycopy(
+        current.values, insertSlot, inserted.values, insertSlot + 1, size - insertSlot);
+    entries = inserted;
+  }
+
+  /**
+   * Deletes all entries with a key greater than the given key.
+   *
+   * @param key the greatest key to keep
+   */
+  synchronized void deleteAfter(final long key) {
+    final Entries current = entries;
+    final int size = current.floorSlot(key) + 1;
+    if (size < current.size) {
+      entries = current.copy(0, size, current.capacity());
+    }
+  }
+
+  /**
+   * Deletes all entries with a key less than the given key.
+   *
+   * @param key the least key to keep
+   */
+  synchronized void deleteUntil(final long key) {
+    final Entries current = entries;
+    final int from = key == Long.MIN_VALUE ? 0 : current.floorSlot(key - 1) + 1;
+    if (from > 0) {
+      final int size = current.size - from;
+      entries = current.copy(from, size, Math.max(INITIAL_CAPACITY, 2 * size));
+    }
+  }
+
+  /** Deletes all entries. */
+  synchronized void clear() {
+    entries = new Entries(INITIAL_CAPACITY, 0);
+  }
+
+  /** An immutable view of the entries of the map, apart from entries appended beyond its size. */
+  static final class Entries {
+    private final long[] keys;
+    private final long[] values;
+    private volatile int size;
+
+    private Entries(final int capacity, final int size) {
+      keys = new long[capacity];
+      values = new long[capacity];
+      this.size = size;
+    }
+
+    int size() {
+      return size;
+    }
+
+    long key(final int slot) {
+      return keys[slot];
+    }
+
+    long value(final int slot) {
+      return values[slot];
+    }
+
+    /**
+     * Returns the slot of the entry with the greatest key less than or equal to the given key.
+     *
+     * @param key the key to look up
+     * @return the slot of the entry, or {@link #NOT_FOUND} if all keys are greater
+     */
+    int floorSlot(final long key) {
+      return floorSlot(keys, key);
+    }
+
+    /**
+     * Returns the slot of the entry with the greatest value less than or equal to the given value.
+     * This is only meaningful if the values are sorted in the same order as the keys.
+     *
+     * @param value the value to look up
+     * @return the slot of the entry, or {@link #NOT_FOUND} if all values are greater
+     */
+    int floorSlotByValue(final long value) {
+      return floorSlot(values, value);
+    }
+
+    private int floorSlot(final long[] array, final long target) {
+      int low = 0;
+      int high = size - 1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        if (array[middle] <= target) {
+          low = middle + 1;
+        } else {
+          high = middle - 1;
+        }
+      }
+
+      return high;
+    }
+
+    private int capacity() {
+      return keys.length;
+    }
+
+    private Entries copy(final int from, final int length, final int capacity) {
+      final Entries copy = new Entries(capacity, length);
+      System.arraycopy(keys, from, copy.keys, 0, length);
+      System.arraycopy(values, from, copy.values, 0, length);
+      return copy;
+    }
+  }
+}
@@ -16,19 +16,20 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import io.camunda.zeebe.journal.file.SortedLongArrayMap.Entries;
 
+/**
+ * Indexes every n-th record, where n is the density, in primitive arrays sorted by the index. Since
+ * the index is almost always built in ascending order, and readers look it up far more often than
+ * it is modified, this keeps lookups free of locks and allocations, except for the result.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final SortedLongArrayMap indexToPosition = new SortedLongArrayMap();
+  // Only contains the records with an asqn. Since the asqn is increasing with the index, both the
+  // keys and the values of this map are sorted, which allows looking up an index by its asqn.
+  private final SortedLongArrayMap indexToAsqn = new SortedLongArrayMap();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +39,46 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      restore(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      indexToAsqn.put(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    final Entries positions = indexToPosition.entries();
+    final Entries asqns = indexToAsqn.entries();
+    final int size = positions.size();
+
+    for (int slot = positions.floorSlot(fromIndex - 1) + 1; slot < size; slot++) {
+      final long index = positions.key(slot);
+      if (index > toIndex) {
+        break;
       }
+
+      final int asqnSlot = asqns.floorSlot(index);
+      final long asqn =
+          asqnSlot != SortedLongArrayMap.NOT_FOUND && asqns.key(asqnSlot) == index
+              ? asqns.value(asqnSlot)
+              : SegmentedJournal.ASQN_IGNORE;
+      consumer.accept(index, (int) positions.value(slot), asqn);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final Entries positions = indexToPosition.entries();
+    final int slot = positions.floorSlot(index);
+    return slot != SortedLongArrayMap.NOT_FOUND
+        ? new IndexInfo(positions.key(slot), (int) positions.value(slot))
+        : null;
   }
 
   @Override
@@ -60,55 +88,42 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final Entries asqns = indexToAsqn.entries();
+    final int slot = asqns.floorSlotByValue(asqn);
+    if (slot == SortedLongArrayMap.NOT_FOUND) {
+      return null;
     }
-    return null;
+
+    if (asqns.key(slot) <= indexUpperBound) {
+      return asqns.key(slot);
+    }
+
+    final int upperBoundSlot = asqns.floorSlot(indexUpperBound);
+    return upperBoundSlot != SortedLongArrayMap.NOT_FOUND ? asqns.key(upperBoundSlot) : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    indexToPosition.deleteAfter(index);
+    indexToAsqn.deleteAfter(index);
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
-    }
+    indexToPosition.deleteUntil(index);
+    indexToAsqn.deleteUntil(index);
   }
 
   @Override
   public void clear() {
     indexToPosition.clear();
     indexToAsqn.clear();
-    asqnToIndex.clear();
   }
 
   @Override
   public boolean hasIndexed(final long index) {
-    final var indexInfo = lookup(index);
-    if (indexInfo == null) {
-      return false;
-    } else {
-      return indexInfo.index() > index - density;
-    }
+    final Entries positions = indexToPosition.entries();
+    final int slot = positions.floorSlot(index);
+    return slot != SortedLongArrayMap.NOT_FOUND && positions.key(slot) > index - density;
   }
 }
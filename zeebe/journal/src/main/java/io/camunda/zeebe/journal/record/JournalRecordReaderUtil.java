@@ -29,6 +29,16 @@ public final class JournalRecordReaderUtil {
    * position of {@code buffer} will be advanced to the next record.
    */
   public JournalRecord read(final ByteBuffer buffer, final long expectedIndex) {
+    return read(buffer, expectedIndex, false);
+  }
+
+  /**
+   * Reads the JournalRecord in the buffer at the current position, decompressing it first if {@code
+   * compressed} is true. After the methods returns, the position of {@code buffer} will be advanced
+   * to the next record.
+   */
+  public JournalRecord read(
+      final ByteBuffer buffer, final long expectedIndex, final boolean compressed) {
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
 
@@ -55,6 +65,10 @@ public final class JournalRecordReaderUtil {
               buffer.position(), metadata));
     }
 
+    if (compressed) {
+      return readCompressed(buffer, expectedIndex, startPosition, metadata, metadataLength);
+    }
+
     // verify checksum
     final long checksum =
         checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
@@ -80,4 +94,45 @@ public final class JournalRecordReaderUtil {
     return new PersistedJournalRecord(
         metadata, record, new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
   }
+
+  private JournalRecord readCompressed(
+      final ByteBuffer buffer,
+      final long expectedIndex,
+      final int startPosition,
+      final RecordMetadata storedMetadata,
+      final int metadataLength) {
+    final byte[] serializedRecord;
+    try {
+      serializedRecord =
+          RecordCompression.decompress(
+              buffer, startPosition + metadataLength, storedMetadata.length());
+    } catch (final CorruptedJournalException e) {
+      buffer.reset();
+      throw e;
+    }
+
+    // the checksum is computed over the uncompressed record, which is also what is replicated
+    final long checksum =
+        checksumGenerator.compute(ByteBuffer.wrap(serializedRecord), 0, serializedRecord.length);
+    if (checksum != storedMetadata.checksum()) {
+      buffer.reset();
+      throw new CorruptedJournalException(
+          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
+              .formatted(checksum, storedMetadata.checksum()));
+    }
+
+    final UnsafeBuffer recordBuffer = new UnsafeBuffer(serializedRecord);
+    final RecordData record = serializer.readData(recordBuffer, 0);
+    if (expectedIndex != record.index()) {
+      buffer.reset();
+      throw new InvalidIndex(
+          String.format(
+              "Expected to read a record with next index %d, but found %d",
+              expectedIndex, record.index()));
+    }
+
+    buffer.position(startPosition + metadataLength + storedMetadata.length());
+    return new PersistedJournalRecord(
+        new RecordMetadata(checksum, serializedRecord.length), record, recordBuffer);
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+import com.github.luben.zstd.Zstd;
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Compresses serialized {@link RecordData} with Zstd before it is stored in a segment, and
+ * decompresses it again when it is read.
+ *
+ * <p>A compressed record is stored as the length of the uncompressed record, followed by the
+ * compressed bytes. The checksum in the {@link RecordMetadata} is always computed over the
+ * uncompressed record, such that the compression is transparent to replication, which relies on the
+ * checksum and the serialized record.
+ */
+public final class RecordCompression {
+
+  /** Records smaller than this rarely become smaller when compressed, so they are stored as is. */
+  public static final int MIN_COMPRESSIBLE_LENGTH = 128;
+
+  private static final int LEVEL = Zstd.defaultCompressionLevel();
+  private static final int LENGTH_PREFIX = Integer.BYTES;
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private byte[] compressionBuffer = new byte[0];
+
+  /**
+   * Compresses the given serialized record into the buffer at the given offset, if the compressed
+   * record is smaller than the uncompressed one.
+   *
+   * @param serializedRecord the uncompressed record
+   * @param buffer the buffer to write the compressed record to
+   * @param offset the offset in the buffer at which the compressed record is written
+   * @return the number of bytes written, or -1 if the record was not compressed
+   */
+  public int compress(
+      final byte[] serializedRecord, final MutableDirectBuffer buffer, final int offset) {
+    final int length = serializedRecord.length;
+    if (length < MIN_COMPRESSIBLE_LENGTH) {
+      return -1;
+    }
+
+    final int maxCompressedLength = (int) Zstd.compressBound(length);
+    if (compressionBuffer.length < maxCompressedLength) {
+      compressionBuffer = new byte[maxCompressedLength];
+    }
+
+    final long compressedLength =
+        Zstd.compressByteArray(
+            compressionBuffer, 0, maxCompressedLength, serializedRecord, 0, length, LEVEL);
+    if (Zstd.isError(compressedLength) || LENGTH_PREFIX + compressedLength >= length) {
+      return -1;
+    }
+
+    buffer.putInt(offset, length, ENDIANNESS);
+    buffer.putBytes(offset + LENGTH_PREFIX, compressionBuffer, 0, (int) compressedLength);
+    return LENGTH_PREFIX + (int) compressedLength;
+  }
+
+  /**
+   * Decompresses a record which was compressed by {@link #compress(byte[], MutableDirectBuffer,
+   * int)}.
+   *
+   * @param buffer the buffer containing the compressed record
+   * @param offset the offset of the compressed record in the buffer
+   * @param length the length of the compressed record, including the length prefix
+   * @return the uncompressed record
+   * @throws CorruptedJournalException if the record cannot be decompressed
+   */
+  public static byte[] decompress(final ByteBuffer buffer, final int offset, final int length) {
+    if (length < LENGTH_PREFIX) {
+      throw new CorruptedJournalException(
+          "Expected compressed record at position %d to have at least %d bytes, but has %d"
+              .formatted(offset, LENGTH_PREFIX, length));
+    }
+
+    final int uncompressedLength = buffer.duplicate().order(ENDIANNESS).getInt(offset);
+    // the uncompressed record was written to the same segment before it was compressed
+    if (uncompressedLength < 0 || uncompressedLength > buffer.capacity()) {
+      throw new CorruptedJournalException(
+          "Expected compressed record at position %d to have an uncompressed length between 0 and %d, but was %d"
+              .formatted(offset, buffer.capacity(), uncompressedLength));
+    }
+
+    final byte[] compressed = new byte[length - LENGTH_PREFIX];
+    buffer.get(offset + LENGTH_PREFIX, compressed);
+
+    final byte[] uncompressed = new byte[uncompressedLength];
+    final long result =
+        Zstd.decompressByteArray(
+            uncompressed, 0, uncompressedLength, compressed, 0, compressed.length);
+    if (Zstd.isError(result) || result != uncompressedLength) {
+      throw new CorruptedJournalException(
+          "Failed to decompress record at position %d: %s"
+              .formatted(
+                  offset,
+                  Zstd.isError(result)
+                      ? Zstd.getErrorName(result)
+                      : "expected %d bytes, but got %d".formatted(uncompressedLength, result)));
+    }
+
+    return uncompressed;
+  }
+}
@@ -552,6 +552,71 @@ final class JournalTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldReadCompressedRecords() throws Exception {
+    // given
+    journal.close();
+    journal = openJournal(b -> b.withRecordCompression(true));
+    recordDataWriter.wrap(new UnsafeBuffer(compressibleData()));
+
+    // when
+    final var firstRecord = copyRecord(journal.append(1, recordDataWriter));
+    final var secondRecord = copyRecord(journal.append(2, otherRecordDataWriter));
+
+    // then
+    final var reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(firstRecord);
+    assertThat(reader.next()).isEqualTo(secondRecord);
+    assertThat(BufferUtil.bufferAsArray(firstRecord.data())).isEqualTo(compressibleData());
+  }
+
+  @Test
+  void shouldReplicateCompressedRecordsUncompressed() throws Exception {
+    // given
+    recordDataWriter.wrap(new UnsafeBuffer(compressibleData()));
+    final var uncompressedRecord = copyRecord(journal.append(1, recordDataWriter));
+    journal.close();
+    journal =
+        openJournal(
+            b ->
+                b.withRecordCompression(true)
+                    .withDirectory(directory.resolve("compressed").toFile()));
+
+    // when
+    journal.append(
+        uncompressedRecord.checksum(),
+        BufferUtil.bufferAsArray(uncompressedRecord.serializedRecord()));
+
+    // then
+    final var compressedRecord = journal.openReader().next();
+    assertThat(compressedRecord.checksum()).isEqualTo(uncompressedRecord.checksum());
+    assertThat(compressedRecord.serializedRecord())
+        .isEqualTo(uncompressedRecord.serializedRecord());
+  }
+
+  @Test
+  void shouldReadCompressedRecordsAfterDisablingCompression() throws Exception {
+    // given
+    journal.close();
+    journal = openJournal(b -> b.withRecordCompression(true));
+    recordDataWriter.wrap(new UnsafeBuffer(compressibleData()));
+    final var compressedRecord = copyRecord(journal.append(1, recordDataWriter));
+    journal.close();
+
+    // when
+    journal = openJournal();
+    final var uncompressedRecord = copyRecord(journal.append(2, recordDataWriter));
+
+    // then
+    final var reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(compressedRecord);
+    assertThat(reader.next()).isEqualTo(uncompressedRecord);
+  }
+
+  private byte[] compressibleData() {
+    return "TestData".repeat(128).getBytes(StandardCharsets.UTF_8);
+  }
+
   // TODO: do not rely on implementation detail to compare records
   private PersistedJournalRecord copyRecord(final JournalRecord record) {
     final RecordData data =
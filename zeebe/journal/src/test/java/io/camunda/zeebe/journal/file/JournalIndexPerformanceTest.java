@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the lookups of the {@link SparseJournalIndex} with the previous implementation based on
+ * {@link ConcurrentSkipListMap}s, which is kept here as {@link SkipListJournalIndex}. Readers look
+ * up the index on every seek, so these lookups should be fast and not allocate more than their
+ * result.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int ENTRY_COUNT = 100_000;
+  private static final int LOOKUP_COUNT = 1 << 16;
+
+  /** The lookup returns an {@link IndexInfo}, which is the only allocation that is expected. */
+  private static final double MAX_ALLOCATED_BYTES_PER_LOOKUP = 32.0;
+
+  @Param({"sparse", "skipList"})
+  public String implementation;
+
+  private JournalIndex index;
+  private final long[] lookups = new long[LOOKUP_COUNT];
+  private int nextLookup;
+
+  @Setup
+  public void setup() {
+    index =
+        switch (implementation) {
+          case "sparse" -> new SparseJournalIndex(1);
+          case "skipList" -> new SkipListJournalIndex(1);
+          default -> throw new IllegalArgumentException("Unknown index " + implementation);
+        };
+
+    // like a journal with a few segments, where every tenth record is a raft record without asqn
+    for (long i = 1; i <= ENTRY_COUNT; i++) {
+      final long asqn = i % 10 == 0 ? SegmentedJournal.ASQN_IGNORE : 2 * i;
+      index.restore(i, (int) (i % 1024) * 128 + 64, asqn);
+    }
+
+    final Random random = new Random(42);
+    for (int i = 0; i < LOOKUP_COUNT; i++) {
+      lookups[i] = 1 + random.nextInt(ENTRY_COUNT);
+    }
+  }
+
+  @Benchmark
+  public void measureLookup(final Blackhole blackhole) {
+    blackhole.consume(index.lookup(nextLookup()));
+  }
+
+  @Benchmark
+  public void measureLookupAsqn(final Blackhole blackhole) {
+    final long index = nextLookup();
+    blackhole.consume(this.index.lookupAsqn(2 * index, index));
+  }
+
+  @JMHTest("measureLookup")
+  void shouldNotAllocateMoreThanTheResultOnLookup(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        options -> options.addProfiler(GCProfiler.class).param("implementation", "sparse"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost("gc.alloc.rate.norm", MAX_ALLOCATED_BYTES_PER_LOOKUP);
+  }
+
+  private long nextLookup() {
+    return lookups[nextLookup++ & (LOOKUP_COUNT - 1)];
+  }
+
+  /** The previous implementation of the {@link SparseJournalIndex}, as a baseline. */
+  static final class SkipListJournalIndex implements JournalIndex {
+    private final int density;
+    private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
+        new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+
+    SkipListJournalIndex(final int density) {
+      this.density = density;
+    }
+
+    @Override
+    public void index(final JournalRecord indexedEntry, final int position) {
+      final long index = indexedEntry.index();
+      if (index % density == 0) {
+        restore(index, position, indexedEntry.asqn());
+      }
+    }
+
+    @Override
+    public IndexInfo lookup(final long index) {
+      final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
+      return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    }
+
+    @Override
+    public Long lookupAsqn(final long asqn) {
+      return lookupAsqn(asqn, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+      final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
+      if (entry != null) {
+        if (entry.getValue() <= indexUpperBound) {
+          return entry.getValue();
+        } else {
+          return indexToAsqn.floorKey(indexUpperBound);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public void deleteAfter(final long index) {
+      indexToPosition.tailMap(index, false).clear();
+      final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
+      if (asqnEntryToDelete != null) {
+        final var asqnToDelete = asqnEntryToDelete.getValue();
+        indexToAsqn.tailMap(index, false).clear();
+        final boolean include = asqnEntryToDelete.getKey() > index;
+        asqnToIndex.tailMap(asqnToDelete, include).clear();
+      }
+    }
+
+    @Override
+    public void deleteUntil(final long index) {
+      indexToPosition.headMap(index, false).clear();
+
+      final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
+      if (asqnEntryToDelete != null) {
+        final var asqnToDelete = asqnEntryToDelete.getValue();
+        indexToAsqn.headMap(index, false).clear();
+        asqnToIndex.headMap(asqnToDelete, false).clear();
+      }
+    }
+
+    @Override
+    public void clear() {
+      indexToPosition.clear();
+      indexToAsqn.clear();
+      asqnToIndex.clear();
+    }
+
+    @Override
+    public boolean hasIndexed(final long index) {
+      final var indexInfo = lookup(index);
+      return indexInfo != null && indexInfo.index() > index - density;
+    }
+
+    @Override
+    public void restore(final long index, final int position, final long asqn) {
+      indexToPosition.put(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        asqnToIndex.put(asqn, index);
+        indexToAsqn.put(index, asqn);
+      }
+    }
+
+    @Override
+    public void forEach(
+        final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+      indexToPosition
+          .subMap(fromIndex, true, toIndex, true)
+          .forEach(
+              (index, position) ->
+                  consumer.accept(
+                      index,
+                      position,
+                      indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE)));
+    }
+  }
+}
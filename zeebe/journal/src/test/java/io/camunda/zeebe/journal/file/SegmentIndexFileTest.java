@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final int ENTRIES_PER_SEGMENT = 10;
+
+  private final TestJournalFactory journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+  private SegmentedJournal journal;
+
+  @TempDir private Path directory;
+
+  @AfterEach
+  void tearDown() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldPersistIndexOfFullSegments() {
+    // given
+    openJournal();
+
+    // when
+    appendEntries(2 * ENTRIES_PER_SEGMENT + 5);
+
+    // then
+    assertThat(SegmentIndexFile.of(journal.getSegment(1).file())).exists();
+    assertThat(SegmentIndexFile.of(journal.getSegment(ENTRIES_PER_SEGMENT + 1).file())).exists();
+    assertThat(SegmentIndexFile.of(journal.getLastSegment().file())).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOnReopen() {
+    // given
+    openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT + 5);
+    final var indexBeforeReopen = journal.getJournalIndex().lookup(5);
+
+    // when
+    journal.close();
+    openJournal();
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(5)).isEqualTo(indexBeforeReopen);
+    assertThat(journal.getJournalIndex().lookup(ENTRIES_PER_SEGMENT + 5).index())
+        .isEqualTo(ENTRIES_PER_SEGMENT + 5);
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seekToAsqn(5)).isEqualTo(5);
+      assertThat(reader.next().index()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnTruncation() {
+    // given
+    openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT + 5);
+    final var indexFile = SegmentIndexFile.of(journal.getSegment(ENTRIES_PER_SEGMENT + 1).file());
+
+    // when
+    journal.deleteAfter(ENTRIES_PER_SEGMENT + 5);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(SegmentIndexFile.of(journal.getSegment(1).file())).exists();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWithSegment() {
+    // given
+    openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT + 5);
+    final var indexFile = SegmentIndexFile.of(journal.getSegment(1).file());
+
+    // when
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT + 5);
+    final var indexFile = SegmentIndexFile.of(journal.getSegment(1).file());
+    journal.close();
+
+    final byte[] content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // when
+    openJournal();
+
+    // then - the index is rebuilt by reading the segment instead
+    assertThat(journal.getJournalIndex().lookup(5)).isNull();
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seek(5)).isEqualTo(5);
+      assertThat(reader.next().index()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  void shouldDeleteOrphanedIndexFiles() throws IOException {
+    // given
+    openJournal();
+    appendEntries(ENTRIES_PER_SEGMENT + 5);
+    journal.close();
+    final var orphanedIndexFile = Files.createFile(directory.resolve("journal-9.log.idx"));
+    final var orphanedTemporaryFile = Files.createFile(directory.resolve("journal-9.log.idx.tmp"));
+
+    // when
+    openJournal();
+
+    // then
+    assertThat(orphanedIndexFile).doesNotExist();
+    assertThat(orphanedTemporaryFile).doesNotExist();
+    assertThat(SegmentIndexFile.of(journal.getSegment(1).file())).exists();
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 1; i <= count; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+  }
+
+  private void openJournal() {
+    // a new index on every open, to verify what is restored from the index files
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withName("journal")
+            .withMaxSegmentSize(journalFactory.maxSegmentSize())
+            .withJournalIndexDensity(1)
+            .withMetaStore(metaStore)
+            .build();
+  }
+}
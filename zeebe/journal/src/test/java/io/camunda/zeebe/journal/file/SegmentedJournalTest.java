@@ -418,9 +418,11 @@ class SegmentedJournalTest {
     journal.append(2, journalFactory.entry()).index();
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var firstSegmentFile = journal.getFirstSegment().file();
 
-    // when
+    // when - without the persisted index of the first segment, which would otherwise be restored
     journal.close();
+    SegmentIndexFile.delete(firstSegmentFile);
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -720,6 +722,28 @@ class SegmentedJournalTest {
     PosixPathAssert.assertThat(firstSegment).hasRealSizeLessThan(segmentSize);
   }
 
+  @Test
+  void shouldFitMoreRecordsIntoSegmentWhenCompressed(final @TempDir Path tmpDir) {
+    // given - uncompressed, the records would need at least four segments
+    final var data = "a".repeat(1024).getBytes(StandardCharsets.UTF_8);
+    final var builder =
+        SegmentedJournal.builder()
+            .withRecordCompression(true)
+            .withMaxSegmentSize(16 * 1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+
+    try (final var journal = builder.build()) {
+      // when
+      for (int i = 0; i < 64; i++) {
+        journal.append(new DirectBufferWriter().wrap(new UnsafeBuffer(data)));
+      }
+
+      // then
+      assertThat(journal.getFirstSegment()).isEqualTo(journal.getLastSegment());
+    }
+  }
+
   @Test
   void shouldValidateAsqnBeforeCreatingNewSegment() {
     // given
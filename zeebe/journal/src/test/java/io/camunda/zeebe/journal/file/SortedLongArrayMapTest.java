@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.file.SortedLongArrayMap.Entries;
+import org.junit.jupiter.api.Test;
+
+final class SortedLongArrayMapTest {
+
+  private final SortedLongArrayMap map = new SortedLongArrayMap();
+
+  @Test
+  void shouldFindFloorEntry() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+
+    // when
+    final Entries entries = map.entries();
+
+    // then
+    assertThat(entries.floorSlot(5)).isEqualTo(SortedLongArrayMap.NOT_FOUND);
+    assertThat(entries.value(entries.floorSlot(10))).isEqualTo(100);
+    assertThat(entries.value(entries.floorSlot(29))).isEqualTo(200);
+    assertThat(entries.value(entries.floorSlot(Long.MAX_VALUE))).isEqualTo(300);
+  }
+
+  @Test
+  void shouldFindFloorEntryByValue() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+
+    // when
+    final Entries entries = map.entries();
+
+    // then
+    assertThat(entries.floorSlotByValue(99)).isEqualTo(SortedLongArrayMap.NOT_FOUND);
+    assertThat(entries.key(entries.floorSlotByValue(150))).isEqualTo(10);
+    assertThat(entries.key(entries.floorSlotByValue(200))).isEqualTo(20);
+  }
+
+  @Test
+  void shouldGrowWhenAppending() {
+    // when
+    for (long key = 1; key <= 1_000; key++) {
+      map.put(key, key * 10);
+    }
+
+    // then
+    final Entries entries = map.entries();
+    assertThat(entries.size()).isEqualTo(1_000);
+    assertThat(entries.value(entries.floorSlot(1))).isEqualTo(10);
+    assertThat(entries.value(entries.floorSlot(1_000))).isEqualTo(10_000);
+  }
+
+  @Test
+  void shouldInsertEntryBeforeLastEntry() {
+    // given
+    map.put(10, 100);
+    map.put(30, 300);
+
+    // when
+    map.put(20, 200);
+    map.put(5, 50);
+
+    // then
+    final Entries entries = map.entries();
+    assertThat(entries.size()).isEqualTo(4);
+    assertThat(entries.key(0)).isEqualTo(5);
+    assertThat(entries.key(1)).isEqualTo(10);
+    assertThat(entries.key(2)).isEqualTo(20);
+    assertThat(entries.key(3)).isEqualTo(30);
+    assertThat(entries.value(entries.floorSlot(25))).isEqualTo(200);
+  }
+
+  @Test
+  void shouldReplaceValueOfExistingEntry() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+    final Entries previousEntries = map.entries();
+
+    // when
+    map.put(10, 101);
+
+    // then
+    final Entries entries = map.entries();
+    assertThat(entries.size()).isEqualTo(2);
+    assertThat(entries.value(entries.floorSlot(10))).isEqualTo(101);
+    assertThat(previousEntries.value(previousEntries.floorSlot(10))).isEqualTo(100);
+  }
+
+  @Test
+  void shouldDeleteAfter() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+
+    // when
+    map.deleteAfter(25);
+    map.put(40, 400);
+
+    // then
+    final Entries entries = map.entries();
+    assertThat(entries.size()).isEqualTo(3);
+    assertThat(entries.key(1)).isEqualTo(20);
+    assertThat(entries.key(2)).isEqualTo(40);
+  }
+
+  @Test
+  void shouldDeleteUntil() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+
+    // when
+    map.deleteUntil(20);
+
+    // then
+    final Entries entries = map.entries();
+    assertThat(entries.size()).isEqualTo(2);
+    assertThat(entries.floorSlot(19)).isEqualTo(SortedLongArrayMap.NOT_FOUND);
+    assertThat(entries.key(0)).isEqualTo(20);
+    assertThat(entries.key(1)).isEqualTo(30);
+  }
+
+  @Test
+  void shouldClear() {
+    // given
+    map.put(10, 100);
+
+    // when
+    map.clear();
+
+    // then
+    assertThat(map.entries().size()).isZero();
+    assertThat(map.entries().floorSlot(10)).isEqualTo(SortedLongArrayMap.NOT_FOUND);
+  }
+
+  @Test
+  void shouldNotChangePreviousEntriesWhenModified() {
+    // given
+    map.put(10, 100);
+    map.put(20, 200);
+    map.put(30, 300);
+    final Entries previousEntries = map.entries();
+
+    // when - deleting and appending again must not overwrite the previously published entries
+    map.deleteAfter(10);
+    map.put(15, 150);
+    map.put(16, 160);
+
+    // then
+    assertThat(previousEntries.size()).isEqualTo(3);
+    assertThat(previousEntries.key(1)).isEqualTo(20);
+    assertThat(previousEntries.value(1)).isEqualTo(200);
+    assertThat(previousEntries.key(2)).isEqualTo(30);
+    assertThat(previousEntries.value(2)).isEqualTo(300);
+  }
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.ArrayList;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -265,4 +266,42 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldFindEntriesIndexedOutOfOrder() {
+    // given - the writer indexed the last entry, and a reader indexes an older segment later
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(15, SegmentedJournal.ASQN_IGNORE), 30);
+
+    // then
+    assertEquals(10, index.lookup(12).index());
+    assertEquals(20, index.lookup(12).position());
+    assertEquals(15, index.lookup(19).index());
+    assertEquals(10, index.lookupAsqn(150));
+    assertEquals(20, index.lookupAsqn(200));
+    assertEquals(10, index.lookupAsqn(250, 19));
+  }
+
+  @Test
+  void shouldVisitEntriesInRange() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, SegmentedJournal.ASQN_IGNORE), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    final var visited = new ArrayList<String>();
+
+    // when
+    index.forEach(
+        2, 3, (entry, position, asqn) -> visited.add(entry + ":" + position + ":" + asqn));
+
+    // then
+    assertThat(visited).containsExactly("2:4:-1", "3:6:30");
+  }
 }
@@ -10,22 +10,24 @@ package io.camunda.zeebe.logstreams.impl.log;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
-import org.agrona.DirectBuffer;
-import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Reads the events of a batch as views over the blocks of the underlying log storage, instead of
+ * copying them. The events of a batch stay valid until the next batch is read, even if the batch
+ * spans multiple blocks, since the log storage reader does not reuse the memory of a block it
+ * already returned.
+ */
 public class LogStreamBatchReaderImpl implements LogStreamBatchReader {
 
   private static final Consumer<LoggedEvent> NOOP = event -> {};
 
   private final LogStreamBatchImpl batch = new LogStreamBatchImpl();
 
-  private final MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
-  private final IntArrayList bufferOffsets = new IntArrayList();
-
   private final LogStreamReader logStreamReader;
 
   public LogStreamBatchReaderImpl(final LogStreamReader logStreamReader) {
@@ -60,48 +62,58 @@ public class LogStreamBatchReaderImpl implements LogStreamBatchReader {
       throw new NoSuchElementException();
     }
 
-    bufferOffsets.clear();
-    int bufferOffset = 0;
+    batch.clear();
     long sourceEventPosition;
 
     do {
-      final LoggedEvent event = logStreamReader.next();
+      // the log stream reader always returns its own event implementation
+      final var event = (LoggedEventImpl) logStreamReader.next();
       sourceEventPosition = event.getSourceEventPosition();
 
-      event.write(eventBuffer, bufferOffset);
-
-      bufferOffsets.addInt(bufferOffset);
-
-      bufferOffset += event.getLength();
+      batch.add(event);
 
     } while (logStreamReader.hasNext()
         && sourceEventPosition > 0
         && sourceEventPosition == logStreamReader.peekNext().getSourceEventPosition());
 
-    batch.wrap(eventBuffer, bufferOffsets);
+    batch.head();
     return batch;
   }
 
   @Override
   public void close() {
     logStreamReader.close();
-    bufferOffsets.clear();
+    batch.clear();
   }
 
   static class LogStreamBatchImpl implements LogStreamBatchReader.Batch {
 
-    private final LoggedEventImpl event = new LoggedEventImpl();
-
-    private DirectBuffer buffer;
-    private IntArrayList offsets;
+    // pooled views, which are reused for the following batches
+    private final List<UnsafeBuffer> eventBuffers = new ArrayList<>();
+    private final List<LoggedEventImpl> events = new ArrayList<>();
 
+    private int size = 0;
     private int currentIndex = 0;
 
-    private void wrap(final DirectBuffer buffer, final IntArrayList offsets) {
-      this.buffer = buffer;
-      this.offsets = offsets;
+    private void add(final LoggedEventImpl event) {
+      if (size == events.size()) {
+        final var eventBuffer = new UnsafeBuffer();
+        final var batchEvent = new LoggedEventImpl();
+        batchEvent.wrap(eventBuffer, 0);
+
+        eventBuffers.add(eventBuffer);
+        events.add(batchEvent);
+      }
+
+      eventBuffers
+          .get(size)
+          .wrap(event.getBuffer(), event.getFragmentOffset(), event.getFragmentLength());
+      size += 1;
+    }
 
-      head();
+    private void clear() {
+      size = 0;
+      currentIndex = 0;
     }
 
     @Override
@@ -111,12 +123,12 @@ public class LogStreamBatchReaderImpl implements LogStreamBatchReader {
 
     @Override
     public LoggedEvent current() {
-      return event;
+      return events.get(Math.max(0, currentIndex - 1));
     }
 
     @Override
     public boolean hasNext() {
-      return currentIndex < offsets.size();
+      return currentIndex < size;
     }
 
     @Override
@@ -125,9 +137,7 @@ public class LogStreamBatchReaderImpl implements LogStreamBatchReader {
         throw new NoSuchElementException();
       }
 
-      final var offset = offsets.get(currentIndex);
-      event.wrap(buffer, offset);
-
+      final var event = events.get(currentIndex);
       currentIndex += 1;
 
       return event;
@@ -46,6 +46,9 @@ public interface LogStreamBatchReader extends Iterator<Batch>, CloseableSilently
    * A batch of events that share the same source record position. Events with no source event
    * position are in a singleton batch.
    *
+   * <p>The events are read-only views over the log storage. They are only valid until the next
+   * batch is read, and must be copied if they are needed for longer.
+   *
    * <pre>
    * <code>
    *
@@ -0,0 +1,293 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares reading the log in batches, like the replay does, with the {@link
+ * LogStreamBatchReaderImpl} and the previous implementation which copied every event of a batch,
+ * which is kept here as {@link CopyingLogStreamBatchReader}. Every operation replays the whole log,
+ * which consists of one block per batch, like the log written by the sequencer.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class LogStreamBatchReaderPerformanceTest {
+  private static final int BATCH_COUNT = 1_000;
+  private static final int EVENTS_PER_BATCH = 8;
+  private static final int VALUE_SIZE = 512;
+
+  /**
+   * Seeking to the start of the log resets the reader, which allocates a few views. Reading the
+   * batches should not allocate anything.
+   */
+  private static final double MAX_ALLOCATED_BYTES_PER_REPLAY = 1024.0;
+
+  @Param({"view", "copy"})
+  public String implementation;
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private LogStreamBatchReader batchReader;
+
+  @Setup
+  public void setup() {
+    final var blocks = new DirectBuffer[BATCH_COUNT];
+    // starts after the first command, which is the source of the first batch
+    long position = 2;
+    for (int i = 0; i < BATCH_COUNT; i++) {
+      final var entries = new ArrayList<LogAppendEntry>(EVENTS_PER_BATCH);
+      for (int j = 0; j < EVENTS_PER_BATCH; j++) {
+        entries.add(newEntry(position + j));
+      }
+
+      final var batch = new SequencedBatch(0, position, position - 1, entries);
+      final var block = new UnsafeBuffer(new byte[batch.getLength()]);
+      batch.write(block, 0);
+      blocks[i] = block;
+      position += EVENTS_PER_BATCH;
+    }
+
+    final LogStreamReader reader = new LogStreamReaderImpl(new BlockReader(blocks));
+    batchReader =
+        switch (implementation) {
+          case "view" -> new LogStreamBatchReaderImpl(reader);
+          case "copy" -> new CopyingLogStreamBatchReader(reader);
+          default -> throw new IllegalArgumentException("Unknown reader " + implementation);
+        };
+  }
+
+  @Benchmark
+  public void measureReplay(final Blackhole blackhole) {
+    batchReader.seekToNextBatch(-1);
+
+    while (batchReader.hasNext()) {
+      final var batch = batchReader.next();
+      while (batch.hasNext()) {
+        final var event = batch.next();
+        event.readMetadata(metadata);
+        blackhole.consume(metadata.getRecordType());
+        blackhole.consume(event.getPosition());
+        blackhole.consume(event.getKey());
+        blackhole.consume(event.getValueLength());
+      }
+    }
+  }
+
+  @JMHTest("measureReplay")
+  void shouldNotAllocateWhenReadingBatches(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        options -> options.addProfiler(GCProfiler.class).param("implementation", "view"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost("gc.alloc.rate.norm", MAX_ALLOCATED_BYTES_PER_REPLAY);
+  }
+
+  private static LogAppendEntry newEntry(final long key) {
+    final var value =
+        new VariableRecord()
+            .setName(wrapString("variable"))
+            .setValue(MsgPackUtil.asMsgPack("value", "x".repeat(VALUE_SIZE)))
+            .setScopeKey(key)
+            .setProcessInstanceKey(key);
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.VARIABLE)
+            .intent(VariableIntent.CREATED);
+
+    return TestEntry.builder()
+        .withKey(key)
+        .withRecordValue(value)
+        .withRecordMetadata(metadata)
+        .build();
+  }
+
+  /** Returns the same blocks over and over, without allocating, unlike the real log storage. */
+  private static final class BlockReader implements LogStorageReader {
+    private final DirectBuffer[] blocks;
+    private int nextBlock;
+
+    private BlockReader(final DirectBuffer[] blocks) {
+      this.blocks = blocks;
+    }
+
+    @Override
+    public void seek(final long position) {
+      nextBlock = 0;
+      for (int i = 0; i < blocks.length; i++) {
+        if (LogEntryDescriptor.getPosition(blocks[i], 0) <= position) {
+          nextBlock = i;
+        } else {
+          break;
+        }
+      }
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return nextBlock < blocks.length;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return blocks[nextBlock++];
+    }
+  }
+
+  /** The previous implementation of the {@link LogStreamBatchReaderImpl}, as a baseline. */
+  static final class CopyingLogStreamBatchReader implements LogStreamBatchReader {
+    private final CopiedBatch batch = new CopiedBatch();
+    private final MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
+    private final IntArrayList bufferOffsets = new IntArrayList();
+    private final LogStreamReader logStreamReader;
+
+    CopyingLogStreamBatchReader(final LogStreamReader logStreamReader) {
+      this.logStreamReader = logStreamReader;
+    }
+
+    @Override
+    public boolean seekToNextBatch(final long position) {
+      if (position < 0) {
+        logStreamReader.seekToFirstEvent();
+        return true;
+      }
+
+      final var found = logStreamReader.seek(position);
+      if (found) {
+        next().forEachRemaining(event -> {});
+      }
+      return found;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return logStreamReader.hasNext();
+    }
+
+    @Override
+    public Batch next() {
+      if (!logStreamReader.hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      bufferOffsets.clear();
+      int bufferOffset = 0;
+      long sourceEventPosition;
+
+      do {
+        final LoggedEvent event = logStreamReader.next();
+        sourceEventPosition = event.getSourceEventPosition();
+        event.write(eventBuffer, bufferOffset);
+        bufferOffsets.addInt(bufferOffset);
+        bufferOffset += event.getLength();
+      } while (logStreamReader.hasNext()
+          && sourceEventPosition > 0
+          && sourceEventPosition == logStreamReader.peekNext().getSourceEventPosition());
+
+      batch.wrap(eventBuffer, bufferOffsets);
+      return batch;
+    }
+
+    @Override
+    public void close() {
+      logStreamReader.close();
+      bufferOffsets.clear();
+    }
+
+    private static final class CopiedBatch implements Batch {
+      private final LoggedEventImpl event = new LoggedEventImpl();
+      private DirectBuffer buffer;
+      private IntArrayList offsets;
+      private int currentIndex;
+
+      private void wrap(final DirectBuffer buffer, final IntArrayList offsets) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+        head();
+      }
+
+      @Override
+      public void head() {
+        currentIndex = 0;
+      }
+
+      @Override
+      public LoggedEvent current() {
+        return event;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return currentIndex < offsets.size();
+      }
+
+      @Override
+      public LoggedEvent next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        event.wrap(buffer, offsets.get(currentIndex));
+        currentIndex += 1;
+        return event;
+      }
+    }
+  }
+}
@@ -193,6 +193,32 @@ public class LogStreamBatchReaderTest {
     assertThat(batch2.next().getPosition()).isEqualTo(eventPosition3);
   }
 
+  @Test
+  public void shouldKeepEventsOfBatchReadableAcrossBlocks() {
+    // given - every write is a separate block
+    final long eventPosition1 =
+        writer.tryWrite(WriteContext.internal(), TestEntry.ofKey(1L), 1L).get();
+    final long eventPosition2 =
+        writer.tryWrite(WriteContext.internal(), TestEntry.ofKey(2L), 1L).get();
+    final long eventPosition3 =
+        writer.tryWrite(WriteContext.internal(), TestEntry.ofKey(3L), 1L).get();
+
+    // when
+    final var batch = batchReader.next();
+    final var event1 = batch.next();
+    final var event2 = batch.next();
+    final var event3 = batch.next();
+
+    // then
+    assertThat(event1.getPosition()).isEqualTo(eventPosition1);
+    assertThat(event1.getKey()).isEqualTo(1L);
+    assertThat(event2.getPosition()).isEqualTo(eventPosition2);
+    assertThat(event2.getKey()).isEqualTo(2L);
+    assertThat(event3.getPosition()).isEqualTo(eventPosition3);
+    assertThat(event3.getKey()).isEqualTo(3L);
+    assertThat(batch.current()).isSameAs(event3);
+  }
+
   @Test
   public void shouldSkipEventsInBatch() {
     // given
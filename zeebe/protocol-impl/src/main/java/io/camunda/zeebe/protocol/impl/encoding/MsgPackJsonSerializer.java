@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.camunda.zeebe.msgpack.spec.MsgPackCodes;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
+
+/**
+ * Serializes a buffer which contains a MessagePack document, e.g. the variables of a record, as
+ * JSON. The document is streamed token by token into the generator, instead of converting it into a
+ * map first via {@link MsgPackConverter#convertToMap(DirectBuffer)}, which allocates an object for
+ * every value of the document only to serialize it right away.
+ *
+ * <p>The result is the same JSON as if the map was serialized, except that the properties keep the
+ * order of the document.
+ *
+ * <p>An empty buffer is serialized as an empty document.
+ */
+public final class MsgPackJsonSerializer extends StdSerializer<DirectBuffer> {
+
+  public MsgPackJsonSerializer() {
+    super(DirectBuffer.class);
+  }
+
+  @Override
+  public void serialize(
+      final DirectBuffer value, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    if (value.capacity() == 0) {
+      generator.writeStartObject();
+      generator.writeEndObject();
+      return;
+    }
+
+    final var reader = new MsgPackReader();
+    reader.wrap(value, 0, value.capacity());
+    new DocumentWriter(reader, generator).writeValue();
+  }
+
+  private static final class DocumentWriter {
+    private final MsgPackReader reader;
+    private final JsonGenerator generator;
+    private byte[] scratch = new byte[0];
+
+    private DocumentWriter(final MsgPackReader reader, final JsonGenerator generator) {
+      this.reader = reader;
+      this.generator = generator;
+    }
+
+    private void writeValue() throws IOException {
+      // the reader rejects unsigned integers which don't fit into a long, but they are valid values
+      if (peekHeader() == MsgPackCodes.UINT64) {
+        final long unsignedValue =
+            reader.getBuffer().getLong(reader.getOffset() + 1, MsgPackCodes.BYTE_ORDER);
+        reader.skipBytes(1 + Long.BYTES);
+        generator.writeNumber(Long.toUnsignedString(unsignedValue));
+        return;
+      }
+
+      final MsgPackToken token = reader.readToken();
+      switch (token.getType()) {
+        case MAP -> writeObject(token.getSize());
+        case ARRAY -> writeArray(token.getSize());
+        case STRING -> writeString(token.getValueBuffer());
+        case INTEGER -> generator.writeNumber(token.getIntegerValue());
+        case FLOAT -> generator.writeNumber(token.getFloatValue());
+        case BOOLEAN -> generator.writeBoolean(token.getBooleanValue());
+        case NIL -> generator.writeNull();
+        case BINARY -> {
+          final var value = token.getValueBuffer();
+          final int length = value.capacity();
+          value.getBytes(0, scratch(length), 0, length);
+          generator.writeBinary(scratch, 0, length);
+        }
+        default ->
+            throw new IOException(
+                String.format("Expected a MessagePack value, but found %s", token.getType()));
+      }
+    }
+
+    private void writeObject(final int size) throws IOException {
+      generator.writeStartObject();
+      for (int i = 0; i < size; i++) {
+        final MsgPackToken key = reader.readToken();
+        switch (key.getType()) {
+          case STRING -> {
+            final var name = key.getValueBuffer();
+            generator.writeFieldName(name.getStringWithoutLengthUtf8(0, name.capacity()));
+          }
+          case INTEGER -> generator.writeFieldName(Long.toString(key.getIntegerValue()));
+          default ->
+              throw new IOException(
+                  String.format(
+                      "Expected a MessagePack map key of type STRING or INTEGER, but found %s",
+                      key.getType()));
+        }
+
+        writeValue();
+      }
+      generator.writeEndObject();
+    }
+
+    private void writeArray(final int size) throws IOException {
+      generator.writeStartArray();
+      for (int i = 0; i < size; i++) {
+        writeValue();
+      }
+      generator.writeEndArray();
+    }
+
+    private void writeString(final DirectBuffer value) throws IOException {
+      final int length = value.capacity();
+      value.getBytes(0, scratch(length), 0, length);
+
+      // the UTF-8 generator copies the encoded bytes as is, without decoding them into a string
+      if (generator instanceof UTF8JsonGenerator) {
+        generator.writeUTF8String(scratch, 0, length);
+      } else {
+        generator.writeString(new String(scratch, 0, length, StandardCharsets.UTF_8));
+      }
+    }
+
+    private byte peekHeader() {
+      return reader.getBuffer().getByte(reader.getOffset());
+    }
+
+    private byte[] scratch(final int length) {
+      if (scratch.length < length) {
+        scratch = new byte[Math.max(length, scratch.length * 2)];
+      }
+      return scratch;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator.Feature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares serializing the variables of a record as JSON, like the exporters do, by streaming them
+ * with the {@link MsgPackJsonSerializer}, and by converting them into a map first via {@link
+ * MsgPackConverter#convertToMap(DirectBuffer)}, which is how they were serialized previously.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MsgPackJsonSerializerPerformanceTest {
+  private static final int VARIABLE_COUNT = 50;
+
+  /**
+   * Streaming still allocates the property names, as the generator accepts them only as strings,
+   * but no object for every value. Converting the same document into a map allocates about three
+   * times as much.
+   */
+  private static final double MAX_ALLOCATED_BYTES_PER_DOCUMENT = 48 * 1024.0;
+
+  @Param({"streaming", "map"})
+  public String implementation;
+
+  private final OutputStream output = OutputStream.nullOutputStream();
+  private final ObjectMapper mapper =
+      new ObjectMapper()
+          .registerModule(
+              new SimpleModule().addSerializer(DirectBuffer.class, new MsgPackJsonSerializer()));
+  private final ObjectWriter writer = mapper.writer().without(Feature.AUTO_CLOSE_TARGET);
+  private DirectBuffer document;
+
+  @Setup
+  public void setup() {
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < VARIABLE_COUNT; i++) {
+      json.append(
+          String.format(
+              "\"string%1$d\":\"%2$s\",\"number%1$d\":%1$d,\"object%1$d\":{\"id\":%1$d,\"active\":true,\"tags\":[\"a\",\"b\",\"c\"],\"ratio\":0.%1$d},",
+              i, "x".repeat(64)));
+    }
+    json.setCharAt(json.length() - 1, '}');
+
+    document = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json.toString()));
+  }
+
+  @Benchmark
+  public void measureSerialization() throws IOException {
+    switch (implementation) {
+      case "streaming" -> writer.writeValue(output, document);
+      case "map" -> writer.writeValue(output, MsgPackConverter.convertToMap(document));
+      default -> throw new IllegalArgumentException("Unknown implementation " + implementation);
+    }
+  }
+
+  @JMHTest("measureSerialization")
+  void shouldAllocateLessWhenStreaming(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        options -> options.addProfiler(GCProfiler.class).param("implementation", "streaming"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost("gc.alloc.rate.norm", MAX_ALLOCATED_BYTES_PER_DOCUMENT);
+  }
+}
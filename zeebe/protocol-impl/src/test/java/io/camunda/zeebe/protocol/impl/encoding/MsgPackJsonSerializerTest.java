@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.camunda.zeebe.test.util.JsonUtil;
+import java.io.StringWriter;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class MsgPackJsonSerializerTest {
+
+  private final ObjectMapper mapper =
+      new ObjectMapper()
+          .registerModule(
+              new SimpleModule().addSerializer(DirectBuffer.class, new MsgPackJsonSerializer()));
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void shouldSerializeLikeConvertedMap(final String json) throws JsonProcessingException {
+    // given
+    final var document = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json));
+
+    // when
+    final var serialized = mapper.writeValueAsString(document);
+
+    // then
+    JsonUtil.assertEquality(
+        serialized, mapper.writeValueAsString(MsgPackConverter.convertToMap(document)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void shouldSerializeWithCharacterBasedGenerator(final String json) throws Exception {
+    // given
+    final var document = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json));
+    final var writer = new StringWriter();
+
+    // when
+    try (final var generator = mapper.getFactory().createGenerator(writer)) {
+      mapper.writeValue(generator, document);
+    }
+
+    // then
+    JsonUtil.assertEquality(writer.toString(), json);
+  }
+
+  @Test
+  void shouldKeepPropertyOrderOfDocument() throws JsonProcessingException {
+    // given
+    final var document =
+        new UnsafeBuffer(
+            MsgPackConverter.convertToMsgPack("{\"z\":1,\"a\":2,\"m\":{\"y\":3,\"b\":4}}"));
+
+    // when
+    final var serialized = mapper.writeValueAsString(document);
+
+    // then
+    assertThat(serialized).isEqualTo("{\"z\":1,\"a\":2,\"m\":{\"y\":3,\"b\":4}}");
+  }
+
+  @Test
+  void shouldSerializeEmptyBufferAsEmptyDocument() throws JsonProcessingException {
+    // when
+    final var serialized = mapper.writeValueAsString(new UnsafeBuffer());
+
+    // then
+    assertThat(serialized).isEqualTo("{}");
+  }
+
+  @Test
+  void shouldSerializeUnsignedLongs() throws JsonProcessingException {
+    // given
+    final var document =
+        new UnsafeBuffer(
+            MsgPackConverter.convertToMsgPack("{\"max\":18446744073709551615,\"min\":-1}"));
+
+    // when
+    final var serialized = mapper.writeValueAsString(document);
+
+    // then
+    assertThat(serialized).isEqualTo("{\"max\":18446744073709551615,\"min\":-1}");
+  }
+
+  private static Stream<String> documents() {
+    return Stream.of(
+        "{}",
+        "{\"foo\":\"bar\",\"count\":42,\"ratio\":0.25,\"enabled\":true,\"missing\":null}",
+        "{\"nested\":{\"deeper\":{\"list\":[1,\"two\",{\"three\":3.0},[],{}]}}}",
+        "{\"escaped\":\"quote \\\" backslash \\\\ newline \\n tab \\t\",\"unicode\":\"h\u00e9llo \u2603 \uD83D\uDE00\"}",
+        "{\"long\":9223372036854775807,\"negative\":-9223372036854775808,\"small\":-1}",
+        "{\"list\":[" + "\"value\",".repeat(100) + "\"last\"]}");
+  }
+}
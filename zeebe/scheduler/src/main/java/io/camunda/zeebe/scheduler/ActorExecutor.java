@@ -19,10 +19,12 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final ActorThreadGroup exporterThreads;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    exporterThreads = builder.getExporterActorThreads();
   }
 
   /**
@@ -38,6 +40,16 @@ public final class ActorExecutor {
     return submitTask(task, ioBoundThreads);
   }
 
+  /**
+   * Submits an exporter actor to the exporter threads, or to the I/O-bound threads if no exporter
+   * threads are configured.
+   *
+   * @param task the task to submit
+   */
+  public ActorFuture<Void> submitExporterTask(final ActorTask task) {
+    return submitTask(task, exporterThreads != null ? exporterThreads : ioBoundThreads);
+  }
+
   private ActorFuture<Void> submitTask(final ActorTask task, final ActorThreadGroup threadGroup) {
     if (task.getLifecyclePhase() != ActorLifecyclePhase.CLOSED) {
       throw new IllegalStateException("ActorTask was already submitted!");
@@ -51,10 +63,18 @@ public final class ActorExecutor {
   public void start() {
     cpuBoundThreads.start();
     ioBoundThreads.start();
+    if (exporterThreads != null) {
+      exporterThreads.start();
+    }
   }
 
   public CompletableFuture<Void> closeAsync() {
-    return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
+    if (exporterThreads == null) {
+      return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
+    }
+
+    return CompletableFuture.allOf(
+        exporterThreads.closeAsync(), ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
   }
 
   public ActorThreadGroup getCpuBoundThreads() {
@@ -64,4 +84,8 @@ public final class ActorExecutor {
   public ActorThreadGroup getIoBoundThreads() {
     return ioBoundThreads;
   }
+
+  public ActorThreadGroup getExporterThreads() {
+    return exporterThreads;
+  }
 }
@@ -13,6 +13,14 @@ import io.prometheus.client.Histogram;
 
 final class ActorMetrics {
 
+  /**
+   * Only every n-th submission of an actor task is sampled for the wake-up latency and queue depth
+   * distributions. Observing a labelled histogram costs a label lookup and several atomic updates,
+   * which is notable compared to the many short executions of a busy actor, while sampling keeps
+   * the distributions representative.
+   */
+  static final int SAMPLE_INTERVAL = 16;
+
   private static final Histogram EXECUTION_LATENCY =
       Histogram.build()
           // goes up to ~26 seconds while being more fine-grained in the <5ms range.
@@ -47,6 +55,37 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Histogram JOB_QUEUE_DEPTH =
+      Histogram.build()
+          .exponentialBuckets(1, 2, 12)
+          .namespace("zeebe")
+          .name("actor_task_queue_depth")
+          .help("Distribution of the job queue length of an actor task after it was executed")
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram WAKE_UP_LATENCY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_task_wake_up_latency")
+          .help(
+              "Time between submitting an actor task to its thread group and a thread starting to"
+                  + " execute it")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_steal_count")
+          .help(
+              "Number of times an actor task was stolen by another thread than the one it was"
+                  + " submitted to")
+          .labelNames("actorName")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -72,6 +111,24 @@ final class ActorMetrics {
     }
   }
 
+  void observeJobQueueDepth(final String actorName, final int length) {
+    if (enabled) {
+      JOB_QUEUE_DEPTH.labels(actorName).observe(length);
+    }
+  }
+
+  void observeWakeUpLatency(final String actorName, final long waitTimeNs) {
+    if (enabled) {
+      WAKE_UP_LATENCY.labels(actorName).observe(waitTimeNs / 1_000_000_000f);
+    }
+  }
+
+  void countSteal(final String actorName) {
+    if (enabled) {
+      STEAL_COUNT.labels(actorName).inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
@@ -46,6 +46,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
    *   <li>I/O-bound actors: actors where the runtime is dominated by performing <strong>blocking
    *       I/O</strong> (usually filesystem writes). It is possible to specify the I/O device used
    *       by the actor.
+   *   <li>Exporter actors: actors which export records to external systems. They run on their own
+   *       threads, such that a slow exporter can't take CPU time away from processing. If no
+   *       exporter threads are configured, they run on the I/O-bound threads instead.
    * </ul>
    *
    * Scheduling hints can be created using the {@link SchedulingHints} class.
@@ -62,6 +65,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     return switch (schedulingHints) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
       case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
+      case EXPORTER -> actorTaskExecutor.submitExporterTask(task);
     };
   }
 
@@ -127,6 +131,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private int exporterThreadsCount;
+    private ActorThreadGroup exporterActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
@@ -197,6 +203,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getExporterActorThreadCount() {
+      return exporterThreadsCount;
+    }
+
+    /**
+     * Sets the number of threads dedicated to exporter actors. With no threads, exporter actors run
+     * on the I/O-bound threads.
+     */
+    public ActorSchedulerBuilder setExporterActorThreadCount(final int exporterThreadsCount) {
+      this.exporterThreadsCount = exporterThreadsCount;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -219,6 +238,13 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return ioBoundActorGroup;
     }
 
+    /**
+     * @return the exporter thread group, or null if no exporter threads are configured
+     */
+    public ActorThreadGroup getExporterActorThreads() {
+      return exporterActorGroup;
+    }
+
     public boolean isMetricsEnabled() {
       return enableMetrics;
     }
@@ -246,6 +272,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       }
     }
 
+    private void initExporterActorThreadGroup() {
+      if (exporterActorGroup == null && exporterThreadsCount > 0) {
+        exporterActorGroup = new ExporterThreadGroup(this);
+      }
+    }
+
     private void initActorExecutor() {
       if (actorExecutor == null) {
         actorExecutor = new ActorExecutor(this);
@@ -256,6 +288,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       initActorThreadFactory();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
+      initExporterActorThreadGroup();
       initActorExecutor();
       return new ActorScheduler(this);
     }
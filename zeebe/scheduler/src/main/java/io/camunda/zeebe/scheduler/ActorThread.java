@@ -104,11 +104,20 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      // the task may be submitted again while it is executed, so the sample is taken beforehand
+      final boolean sampled = actorMetrics.isEnabled() && currentTask.submittedAt != -1;
+      if (sampled) {
+        actorMetrics.observeWakeUpLatency(actorName, System.nanoTime() - currentTask.submittedAt);
+      }
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
       if (actorMetrics.isEnabled()) {
-        actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
+        final int queueLength = currentTask.estimateQueueLength();
+        actorMetrics.updateJobQueueLength(actorName, queueLength);
+        if (sampled) {
+          actorMetrics.observeJobQueueDepth(actorName, queueLength);
+        }
         actorMetrics.countExecution(actorName);
       }
     } else {
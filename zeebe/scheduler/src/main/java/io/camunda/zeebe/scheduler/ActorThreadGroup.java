@@ -22,6 +22,7 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean metricsEnabled;
 
   public ActorThreadGroup(
       final String groupName,
@@ -31,6 +32,7 @@ public abstract class ActorThreadGroup {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    metricsEnabled = builder.isMetricsEnabled();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -56,6 +58,11 @@ public abstract class ActorThreadGroup {
   }
 
   public void submit(final ActorTask actorTask) {
+    if (metricsEnabled) {
+      final boolean sampled = actorTask.submissions++ % ActorMetrics.SAMPLE_INTERVAL == 0;
+      actorTask.submittedAt = sampled ? System.nanoTime() : -1;
+    }
+
     final ActorThread current = ActorThread.current();
     if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
@@ -0,0 +1,18 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+
+public final class ExporterThreadGroup extends ActorThreadGroup {
+
+  public ExporterThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        "zb-exporters", builder.getExporterActorThreadCount(), builder, builder.getSchedulerName());
+  }
+}
@@ -9,7 +9,8 @@ package io.camunda.zeebe.scheduler;
 
 public enum SchedulingHints {
   CPU_BOUND,
-  IO_BOUND;
+  IO_BOUND,
+  EXPORTER;
 
   public static SchedulingHints cpuBound() {
     return SchedulingHints.CPU_BOUND;
@@ -18,4 +19,8 @@ public enum SchedulingHints {
   public static SchedulingHints ioBound() {
     return SchedulingHints.IO_BOUND;
   }
+
+  public static SchedulingHints exporter() {
+    return SchedulingHints.EXPORTER;
+  }
 }
@@ -84,6 +84,7 @@ public final class WorkStealingGroup implements TaskScheduler {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.getActorMetrics().countSteal(stolenActor.actor.getName());
           return stolenActor;
         }
       }
@@ -11,8 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import io.prometheus.client.CollectorRegistry;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 final class ActorSchedulerTest {
@@ -83,5 +86,188 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunExporterActorOnExporterThreads() throws Exception {
+    // given
+    final var builder = ActorScheduler.newActorScheduler().setExporterActorThreadCount(1);
+    final var threadGroup = new AtomicReference<ActorThreadGroup>();
+    final var actor = new ThreadGroupRecordingActor(threadGroup);
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+
+      // when
+      scheduler.submitActor(actor, SchedulingHints.exporter()).join();
+
+      // then
+      assertThat(threadGroup.get())
+          .isInstanceOf(ExporterThreadGroup.class)
+          .isSameAs(builder.getExporterActorThreads());
+    }
+  }
+
+  @Test
+  void shouldRunExporterActorOnIoThreadsWithoutExporterThreads() throws Exception {
+    // given
+    final var builder = ActorScheduler.newActorScheduler().setExporterActorThreadCount(0);
+    final var threadGroup = new AtomicReference<ActorThreadGroup>();
+    final var actor = new ThreadGroupRecordingActor(threadGroup);
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+
+      // when
+      scheduler.submitActor(actor, SchedulingHints.exporter()).join();
+
+      // then
+      assertThat(builder.getExporterActorThreads()).isNull();
+      assertThat(threadGroup.get()).isSameAs(builder.getIoBoundActorThreads());
+    }
+  }
+
+  @Test
+  void shouldObserveWakeUpLatencyWhenMetricsAreEnabled() throws Exception {
+    // given
+    final var builder = ActorScheduler.newActorScheduler().setMetricsEnabled(true);
+    final var actor = new NamedActor("wake-up-latency-enabled");
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+
+      // when
+      scheduler.submitActor(actor).join();
+
+      // then
+      await("until the actor task was executed")
+          .untilAsserted(() -> assertThat(wakeUpLatencyCount(actor)).isPositive());
+    }
+  }
+
+  @Test
+  void shouldNotObserveWakeUpLatencyWhenMetricsAreDisabled() throws Exception {
+    // given
+    final var builder = ActorScheduler.newActorScheduler().setMetricsEnabled(false);
+    final var actor = new NamedActor("wake-up-latency-disabled");
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+
+      // when
+      scheduler.submitActor(actor).join();
+
+      // then
+      assertThat(wakeUpLatencyCount(actor)).isNull();
+    }
+  }
+
+  @Test
+  void shouldSampleWakeUpLatencyAndQueueDepth() throws Exception {
+    // given
+    final var builder = ActorScheduler.newActorScheduler().setMetricsEnabled(true);
+    final var actor = new NamedActor("wake-up-latency-sampled");
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+      scheduler.submitActor(actor).join();
+
+      // when - calls may be run in the same execution, so we call until there were enough
+      for (int i = 0;
+          i < 100 * ActorMetrics.SAMPLE_INTERVAL
+              && executionCount(actor) < 4 * ActorMetrics.SAMPLE_INTERVAL;
+          i++) {
+        actor.call(() -> null).join();
+      }
+
+      // then - the samples are read first, as an execution is counted after it was sampled
+      final var wakeUpLatencySamples = wakeUpLatencyCount(actor);
+      final var queueDepthSamples = sampleValue("zeebe_actor_task_queue_depth_count", actor);
+      final var executions = executionCount(actor);
+      assertThat(executions).isGreaterThanOrEqualTo(4 * ActorMetrics.SAMPLE_INTERVAL);
+      final var maxSamples = Math.ceil((executions + 1) / ActorMetrics.SAMPLE_INTERVAL);
+      assertThat(wakeUpLatencySamples).isPositive().isLessThanOrEqualTo(maxSamples);
+      assertThat(queueDepthSamples).isPositive().isLessThanOrEqualTo(maxSamples);
+    }
+  }
+
+  @Test
+  void shouldCountStolenTasks() throws Exception {
+    // given
+    final var builder =
+        ActorScheduler.newActorScheduler().setMetricsEnabled(true).setCpuBoundActorThreadCount(2);
+    final var started = new CountDownLatch(1);
+    final var stolenActor =
+        new NamedActor("steal-count-stolen") {
+          @Override
+          protected void onActorStarted() {
+            started.countDown();
+          }
+        };
+
+    try (final var scheduler = builder.build()) {
+      scheduler.start();
+      final var blockingActor =
+          new NamedActor("steal-count-blocking") {
+            @Override
+            protected void onActorStarted() {
+              // submitted from an actor thread, the task is queued for this thread, which is kept
+              // busy until the other thread took the task over
+              scheduler.submitActor(stolenActor);
+              try {
+                started.await(10, TimeUnit.SECONDS);
+              } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            }
+          };
+
+      // when
+      scheduler.submitActor(blockingActor);
+
+      // then
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(sampleValue("zeebe_actor_task_steal_count_total", stolenActor)).isPositive();
+    }
+  }
+
+  private static double executionCount(final Actor actor) {
+    final var count = sampleValue("zeebe_actor_task_execution_count_total", actor);
+    return count == null ? 0 : count;
+  }
+
+  private static Double wakeUpLatencyCount(final Actor actor) {
+    return sampleValue("zeebe_actor_task_wake_up_latency_count", actor);
+  }
+
+  private static Double sampleValue(final String name, final Actor actor) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"actorName"}, new String[] {actor.getName()});
+  }
+
   private static final class TestActor extends Actor {}
+
+  private static class NamedActor extends Actor {
+    private final String name;
+
+    private NamedActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+
+  private static final class ThreadGroupRecordingActor extends Actor {
+    private final AtomicReference<ActorThreadGroup> threadGroup;
+
+    private ThreadGroupRecordingActor(final AtomicReference<ActorThreadGroup> threadGroup) {
+      this.threadGroup = threadGroup;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      threadGroup.set(ActorThread.current().getActorThreadGroup());
+    }
+  }
 }
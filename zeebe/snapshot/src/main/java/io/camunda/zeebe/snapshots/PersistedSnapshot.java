@@ -48,6 +48,17 @@ public interface PersistedSnapshot {
    */
   SnapshotChunkReader newChunkReader();
 
+  /**
+   * Returns a new snapshot chunk reader for this snapshot, which allows the receiver to reuse the
+   * files it already has from a previous snapshot. Skipping these files is only worth it if the
+   * receiver has a snapshot, otherwise {@link #newChunkReader()} should be used.
+   *
+   * @return a new snapshot chunk reader which supports {@link SnapshotChunkReader#skip}
+   */
+  default SnapshotChunkReader newIncrementalChunkReader() {
+    return newChunkReader();
+  }
+
   /**
    * @return a path to the snapshot location
    */
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the names of the chunks which the last applied chunk allowed to reuse from the latest
+   * persisted snapshot, because their files are unchanged. These chunks don't have to be sent
+   * anymore, see {@link SnapshotChunkReader#skip}.
+   *
+   * @return the names of the reused chunks, or an empty collection if none were reused
+   */
+  default Collection<String> reusedChunks() {
+    return List.of();
+  }
 }
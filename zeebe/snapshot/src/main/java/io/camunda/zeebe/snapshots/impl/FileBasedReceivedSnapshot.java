@@ -18,10 +18,19 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +49,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private boolean manifestApplied;
+  private final Set<String> reusedFiles = new HashSet<>();
+  private final Map<String, PartialFileChecksum> partiallyReceivedFiles = new HashMap<>();
+  private volatile Collection<String> lastReusedChunks = List.of();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,7 +81,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public Collection<String> reusedChunks() {
+    return lastReusedChunks;
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
+    lastReusedChunks = List.of();
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
     final var currentTotalCount = snapshotChunk.getTotalCount();
@@ -95,16 +114,27 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
     }
 
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    if (chunkName.equals(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME)
+        && tryApplyManifest(snapshotChunk)) {
+      return;
+    }
+
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    unlinkReusedFile(chunkName, snapshotFile);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
+    if (snapshotChunk.getContent().length == snapshotChunk.getTotalFileSize()) {
+      checksumCollection.updateFromBytes(
+          snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    } else {
+      updatePartialFileChecksum(snapshotChunk, snapshotFile);
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +145,117 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private boolean tryApplyManifest(final SnapshotChunk chunk) {
+    final FileBasedSnapshotManifest manifest;
+    try {
+      manifest = FileBasedSnapshotManifest.decode(chunk.getContent());
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to decode snapshot manifest, will write it as a normal file", e);
+      return false;
+    }
+
+    if (!snapshotId.getSnapshotIdAsString().equals(manifest.snapshotId())) {
+      // an outdated manifest, which is part of a snapshot that was received by an older version
+      return false;
+    }
+
+    manifestApplied = true;
+    lastReusedChunks = reuseFiles(manifest);
+    LOGGER.debug(
+        "Reused {} of {} files listed in the manifest of snapshot {}",
+        lastReusedChunks.size(),
+        manifest.files().size(),
+        snapshotId);
+    return true;
+  }
+
+  /**
+   * Links the files of the manifest which are unchanged in the latest persisted snapshot into this
+   * snapshot. A file is considered unchanged if its name, size and checksum are the same. Linking
+   * is safe, since the files of a snapshot are never modified.
+   */
+  private List<String> reuseFiles(final FileBasedSnapshotManifest manifest) {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return List.of();
+    }
+
+    final var previousDirectory = latestSnapshot.get().getPath();
+    final var previousChecksums = latestSnapshot.get().getChecksums().getChecksums();
+    final var reusedChunks = new ArrayList<String>();
+    for (final var file : manifest.files()) {
+      final var fileName = file.name();
+      if (reusedFiles.contains(fileName)) {
+        // the manifest was applied before
+        reusedChunks.add(fileName);
+        continue;
+      }
+
+      final Long previousChecksum = previousChecksums.get(fileName);
+      if (previousChecksum == null || previousChecksum != file.checksum()) {
+        continue;
+      }
+
+      final var previousFile = previousDirectory.resolve(fileName);
+      final var snapshotFile = directory.resolve(fileName);
+      try {
+        if (Files.size(previousFile) != file.size()) {
+          continue;
+        }
+
+        Files.createLink(snapshotFile, previousFile);
+      } catch (final IOException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, will receive it instead",
+            previousFile,
+            latestSnapshot.get().getId(),
+            e);
+        continue;
+      }
+
+      reusedFiles.add(fileName);
+      checksumCollection.updateFromChecksum(snapshotFile, file.checksum());
+      reusedChunks.add(fileName);
+    }
+
+    return reusedChunks;
+  }
+
+  private void unlinkReusedFile(final String chunkName, final Path snapshotFile)
+      throws SnapshotWriteException {
+    if (!reusedFiles.remove(chunkName)) {
+      return;
+    }
+
+    // the file is sent after all, e.g. because the response to the manifest was lost; never write
+    // into the linked file, as it is shared with the previous snapshot
+    try {
+      Files.delete(snapshotFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to unlink reused snapshot file %s", snapshotFile), e);
+    }
+  }
+
+  /**
+   * Updates the checksum of a file which is received in multiple chunks while the chunks arrive,
+   * such that the file does not have to be read again when the snapshot is persisted. This is only
+   * possible as long as the chunks arrive in order; otherwise the checksum is calculated from the
+   * written file on persist.
+   */
+  private void updatePartialFileChecksum(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile) {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var partialChecksum =
+        partiallyReceivedFiles.computeIfAbsent(chunkName, name -> new PartialFileChecksum());
+    partialChecksum.update(snapshotChunk);
+
+    if (partialChecksum.isComplete(snapshotChunk.getTotalFileSize())) {
+      checksumCollection.updateFromChecksum(snapshotFile, partialChecksum.value());
+      partiallyReceivedFiles.remove(chunkName);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -253,16 +394,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    if (files.length != expectedTotalCount) {
+    // the manifest is counted as a chunk, but not written as a file
+    final var expectedFileCount = manifestApplied ? expectedTotalCount - 1 : expectedTotalCount;
+    if (files.length != expectedFileCount) {
       future.completeExceptionally(
           new IllegalStateException(
               String.format(
                   "Expected '%d' chunk files for this snapshot, but found '%d'. Files are: %s.",
-                  expectedTotalCount, files.length, Arrays.toString(files))));
+                  expectedFileCount, files.length, Arrays.toString(files))));
       return;
     }
 
     try {
+      for (final var fileName : partiallyReceivedFiles.keySet()) {
+        checksumCollection.updateFromFile(directory.resolve(fileName));
+      }
+
       if (metadata == null) {
         // backward compatibility
         metadata =
@@ -291,4 +438,29 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /** The checksum of the part of a file which was received in order so far. */
+  private static final class PartialFileChecksum {
+    private final Checksum checksum = SnapshotChunkUtil.newChecksum();
+    private long checksummedBytes;
+    private boolean inOrder = true;
+
+    private void update(final SnapshotChunk chunk) {
+      if (!inOrder || chunk.getFileBlockPosition() != checksummedBytes) {
+        inOrder = false;
+        return;
+      }
+
+      checksum.update(chunk.getContent());
+      checksummedBytes += chunk.getContent().length;
+    }
+
+    private boolean isComplete(final long totalFileSize) {
+      return inOrder && checksummedBytes == totalFileSize;
+    }
+
+    private long value() {
+      return checksum.getValue();
+    }
+  }
 }
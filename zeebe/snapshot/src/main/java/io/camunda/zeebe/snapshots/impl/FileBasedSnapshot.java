@@ -93,6 +93,15 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     }
   }
 
+  @Override
+  public SnapshotChunkReader newIncrementalChunkReader() {
+    try {
+      return new FileBasedSnapshotChunkReader(directory, Long.MAX_VALUE, checksums);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public Path getPath() {
     return getDirectory();
@@ -7,14 +7,18 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotManifest.FileEntry;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,6 +26,10 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If created with the checksums of the snapshot, the reader sends a {@link
+ * FileBasedSnapshotManifest} as the first chunk, before any file. Files which the receiver reuses
+ * from its own snapshot can then be removed via {@link #skip(Collection)}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +40,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private final byte[] manifest;
+  private boolean manifestPending;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -39,27 +49,67 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, null);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final ImmutableChecksumsSFV checksums)
+      throws IOException {
     this.directory = directory;
     chunks = collectChunks(directory);
-    totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
 
     snapshotID = directory.getFileName().toString();
 
     this.maximumChunkSize = maximumChunkSize;
+
+    if (checksums != null) {
+      manifest = createManifest(checksums);
+      manifestPending = true;
+      // the receiver has to count the manifest as well, such that receivers which don't know it
+      // (and write it as a normal file) still find all expected chunks
+      totalCount = chunks.size() + 1;
+    } else {
+      manifest = null;
+      totalCount = chunks.size();
+    }
   }
 
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
     final var set = new TreeSet<>(CharSequence::compare);
     try (final var stream = Files.list(directory).sorted()) {
-      stream.map(directory::relativize).map(Path::toString).forEach(set::add);
+      stream
+          .map(directory::relativize)
+          .map(Path::toString)
+          // a manifest may have been written by a receiver which didn't know it; it is outdated
+          .filter(name -> !name.equals(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME))
+          .forEach(set::add);
     }
     return set;
   }
 
+  private byte[] createManifest(final ImmutableChecksumsSFV checksums) throws IOException {
+    final var files = new ArrayList<FileEntry>();
+    if (chunks.isEmpty()) {
+      return new FileBasedSnapshotManifest(snapshotID, files).encode();
+    }
+
+    // the last file is always sent, see FileBasedSnapshotManifest
+    for (final var chunk : chunks.headSet(chunks.last(), false)) {
+      final var fileName = chunk.toString();
+      final var checksum = checksums.getChecksums().get(fileName);
+      if (checksum != null) {
+        files.add(new FileEntry(fileName, Files.size(directory.resolve(fileName)), checksum));
+      }
+    }
+
+    return new FileBasedSnapshotManifest(snapshotID, files).encode();
+  }
+
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    manifestPending = manifest != null;
   }
 
   @Override
@@ -72,11 +122,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     offset = chunkId.offset();
 
+    if (manifest != null
+        && chunkId.fileName().equals(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME)) {
+      reset();
+      return;
+    }
+
+    manifestPending = false;
     chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
   }
 
   @Override
   public ByteBuffer nextId() {
+    if (manifestPending) {
+      return new SnapshotChunkId(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME, 0).id();
+    }
+
     if (chunksView.isEmpty()) {
       return null;
     }
@@ -89,6 +150,17 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Collection<String> chunkNames) {
+    // the last chunk is never skipped, as it completes the snapshot on the receiver
+    for (final var chunkName : chunkNames) {
+      if (!chunks.isEmpty() && !chunkName.contentEquals(chunks.last())) {
+        chunks.remove(chunkName);
+        chunksView.remove(chunkName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -97,11 +169,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return manifestPending || !chunksView.isEmpty();
   }
 
   @Override
   public SnapshotChunk next() {
+    if (manifestPending) {
+      manifestPending = false;
+      return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
+          snapshotID,
+          totalCount,
+          FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME,
+          manifest,
+          0,
+          manifest.length);
+    }
+
     final var fileName = chunksView.first().toString();
     final var filePath = directory.resolve(fileName).toString();
 
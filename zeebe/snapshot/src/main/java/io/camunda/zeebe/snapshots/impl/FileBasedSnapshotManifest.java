@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Lists the files of a snapshot by name, size and checksum. It is sent as the first chunk when
+ * replicating a snapshot incrementally, such that the receiver can reuse the files which it has
+ * already in its latest snapshot, instead of receiving them again. As RocksDB never modifies SST
+ * files, most of them are usually unchanged between two snapshots.
+ *
+ * <p>The manifest is not part of the snapshot directory, and does not contain the last file of the
+ * snapshot, which is always sent. This guarantees that the receiver gets at least one more chunk
+ * after the manifest, with which the snapshot is completed.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+record FileBasedSnapshotManifest(String snapshotId, List<FileEntry> files) {
+
+  private static final ObjectMapper OBJECTMAPPER = new ObjectMapper();
+
+  byte[] encode() throws IOException {
+    return OBJECTMAPPER.writeValueAsBytes(this);
+  }
+
+  static FileBasedSnapshotManifest decode(final byte[] serializedBytes) throws IOException {
+    return OBJECTMAPPER.readValue(serializedBytes, FileBasedSnapshotManifest.class);
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record FileEntry(String name, long size, long checksum) {}
+}
@@ -56,6 +56,9 @@ public final class FileBasedSnapshotStoreImpl {
   // versions, because the new checksum calculation already order the metadata file explicitly
   // instead of using the implicit sort order.
   static final String METADATA_FILE_NAME = "zeebe.metadata";
+  // The manifest is not part of the snapshot directory, but sent as the first chunk when
+  // replicating a snapshot incrementally. See FileBasedSnapshotManifest.
+  static final String MANIFEST_FILE_NAME = "zeebe.manifest";
   // first is the metadata and the second the received snapshot count
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStoreImpl.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
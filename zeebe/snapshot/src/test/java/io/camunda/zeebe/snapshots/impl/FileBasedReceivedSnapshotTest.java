@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +349,154 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldCalculateChecksumsOfChunkedFilesWhileReceiving() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(receivedSnapshot.persist().join().getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldCalculateChecksumsOfChunkedFilesWhenChunksAreResent() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      final var firstChunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstChunk).join();
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      receivedSnapshot.apply(firstChunk).join();
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(receivedSnapshot.persist().join().getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldReuseUnchangedFilesOfPreviousSnapshot() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var appliedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = persistedSnapshot.newIncrementalChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        appliedChunks.add(chunk.getChunkName());
+        snapshotChunkReader.skip(receivedSnapshot.reusedChunks());
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(appliedChunks)
+        .as("only the manifest and the changed metadata were received")
+        .containsExactly(
+            FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME,
+            FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file1"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file1"));
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithoutPreviousSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newIncrementalChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+    }
+
+    // then
+    assertThat(receivedSnapshot.reusedChunks()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLinkReusedFilesIfTheyAreSentAnyway() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - the reused chunks are not skipped, e.g. because the response got lost
+    try (final var snapshotChunkReader = persistedSnapshot.newIncrementalChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(previousSnapshot.getPath().resolve("file1"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file1"));
+    assertThat(receivedSnapshot.getPath().resolve("file1"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file1"));
+    assertThat(Files.getAttribute(receivedSnapshot.getPath().resolve("file1"), "unix:nlink"))
+        .as("the received file is not linked to the file of the previous snapshot")
+        .isEqualTo(1);
+    assertThat(receivedSnapshot.persist().join().getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldWriteOutdatedManifestAsFile() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final SnapshotChunk manifest;
+    try (final var snapshotChunkReader = persistedSnapshot.newIncrementalChunkReader()) {
+      manifest = snapshotChunkReader.next();
+    }
+    final var otherSnapshot = takePersistedSnapshot(2L);
+    final SnapshotChunk outdatedManifest;
+    try (final var snapshotChunkReader = otherSnapshot.newIncrementalChunkReader()) {
+      outdatedManifest =
+          SnapshotChunkWrapper.withSnapshotId(snapshotChunkReader.next(), manifest.getSnapshotId());
+    }
+
+    // when
+    receivedSnapshot.apply(outdatedManifest).join();
+
+    // then
+    assertThat(receivedSnapshot.getPath().resolve(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME))
+        .hasBinaryContent(outdatedManifest.getContent());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
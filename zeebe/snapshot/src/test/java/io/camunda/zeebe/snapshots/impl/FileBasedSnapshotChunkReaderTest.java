@@ -332,6 +332,77 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSendManifestFirst() throws IOException {
+    // given
+    final var reader = newIncrementalReader();
+
+    // when
+    final var manifestId = reader.nextId();
+    final var manifestChunk = reader.next();
+
+    // then
+    assertThat(manifestChunk.getChunkName())
+        .isEqualTo(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME);
+    assertThat(new SnapshotChunkId(manifestId).fileName())
+        .isEqualTo(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME);
+    assertThat(manifestChunk.getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size() + 1);
+    assertThat(FileBasedSnapshotManifest.decode(manifestChunk.getContent()).files())
+        .as("the last file is not part of the manifest")
+        .extracting(FileBasedSnapshotManifest.FileEntry::name)
+        .containsExactly("file1", "file2");
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file2", "file3");
+  }
+
+  @Test
+  public void shouldSkipChunks() throws IOException {
+    // given
+    final var reader = newIncrementalReader();
+    reader.next();
+
+    // when
+    reader.skip(List.of("file1", "file3"));
+
+    // then
+    assertThat(getAllChunks(reader))
+        .as("the last chunk is never skipped")
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file2", "file3");
+  }
+
+  @Test
+  public void shouldSeekToSkippedChunk() throws IOException {
+    // given
+    final var reader = newIncrementalReader();
+    reader.next();
+    final var nextId = reader.nextId();
+    reader.skip(List.of("file1"));
+
+    // when
+    reader.seek(nextId);
+
+    // then
+    assertThat(reader.next().getChunkName()).isEqualTo("file2");
+  }
+
+  @Test
+  public void shouldNotSendOutdatedManifestFile() throws IOException {
+    // given
+    snapshotDirectory = temporaryFolder.getRoot().toPath();
+    Files.writeString(snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME), "");
+    final var reader = newIncrementalReader();
+
+    // when
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly(FileBasedSnapshotStoreImpl.MANIFEST_FILE_NAME, "file1", "file2", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -361,4 +432,10 @@ public final class FileBasedSnapshotChunkReaderTest {
   private FileBasedSnapshotChunkReader newReader() throws IOException {
     return newReader(Long.MAX_VALUE);
   }
+
+  private FileBasedSnapshotChunkReader newIncrementalReader() throws IOException {
+    newReader().close();
+    return new FileBasedSnapshotChunkReader(
+        snapshotDirectory, Long.MAX_VALUE, SnapshotChecksum.calculate(snapshotDirectory));
+  }
 }
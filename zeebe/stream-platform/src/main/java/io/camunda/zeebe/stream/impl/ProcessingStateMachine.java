@@ -366,11 +366,7 @@ public final class ProcessingStateMachine {
 
       final var command = pendingCommands.removeFirst();
 
-      currentProcessor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(command.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(command));
+      currentProcessor = chooseProcessor(command);
 
       currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
 
@@ -392,6 +388,17 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private RecordProcessor chooseProcessor(final TypedRecord<?> command) {
+    // avoids allocating a stream for every processed command
+    for (final var processor : recordProcessors) {
+      if (processor.accepts(command.getValueType())) {
+        return processor;
+      }
+    }
+
+    throw NoSuchProcessorException.forRecord(command);
+  }
+
   /**
    * Collects from the given processing result the commands which should be processed further, and
    * the records which should be written to the log.
@@ -15,6 +15,7 @@ import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -36,6 +37,7 @@ import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 
 /** Represents the state machine to replay events and rebuild the state. */
@@ -62,7 +64,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private final EventFilter eventFilter = new MetadataEventFilter(REPLAY_FILTER);
 
+  private final LogStreamReader logStreamReader;
   private final LogStreamBatchReader logStreamBatchReader;
+  private final Consumer<LoggedEvent> eventReplayer = this::replayEvent;
 
   private final TransactionContext transactionContext;
   private final RetryStrategy replayStrategy;
@@ -72,9 +76,15 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
 
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private Batch currentBatch;
+
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  // positions of the last committed transaction, to read its following batches again on retry
+  private long committedReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private long committedReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -86,12 +96,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final int maxBatchesInTransaction;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
       final StreamProcessorContext context,
       final BooleanSupplier shouldReplayNext) {
     partitionId = context.getPartitionId();
+    maxBatchesInTransaction = context.getMaxBatchesInReplayTransaction();
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
     actor = context.getActor();
@@ -105,7 +117,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     replayStrategy = new RecoverableRetryStrategy(actor);
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
-    logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    logStreamReader = context.getLogStreamReader();
+    logStreamBatchReader = new LogStreamBatchReaderImpl(logStreamReader);
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
   }
 
@@ -159,22 +172,24 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(
+                                currentBatch != null ? currentBatch.current() : null,
+                                typedEvent.getMetadata()),
                         failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -196,30 +211,61 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batches in a single transaction, up to the configured limit. Committing a
+   * transaction is expensive compared to applying a few events, so replaying multiple batches per
+   * transaction speeds up the replay of small batches.
+   */
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      restoreCommittedPositions();
     }
 
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          int replayedBatches = 0;
+          do {
+            currentBatch = logStreamBatchReader.next();
+            currentBatch.forEachRemaining(eventReplayer);
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+            replayedBatches++;
+          } while (replayedBatches < maxBatchesInTransaction && logStreamBatchReader.hasNext());
+
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
+    committedReadRecordPosition = lastReadRecordPosition;
+    committedReplayedEventPosition = lastReplayedEventPosition;
 
     return true;
   }
 
+  /**
+   * Resets the reader and the positions to the last committed transaction, such that the rolled
+   * back batches are read and replayed again. The events of the previous batches are no longer
+   * valid once the reader moved on, so these are read from the log again.
+   */
+  private void restoreCommittedPositions() {
+    lastReadRecordPosition = committedReadRecordPosition;
+    lastReplayedEventPosition = committedReplayedEventPosition;
+
+    if (committedReadRecordPosition > 0) {
+      // the batch reader would skip the rest of a batch which was only partially written before
+      logStreamReader.seekToNextEvent(committedReadRecordPosition);
+    } else {
+      logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    }
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
@@ -228,12 +274,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
+      final var processor = chooseProcessor(currentTypedEvent);
       processor.replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -241,6 +282,17 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     onRecordReplayed(currentEvent);
   }
 
+  private RecordProcessor chooseProcessor(final TypedRecord<?> event) {
+    // avoids allocating a stream for every replayed event
+    for (final var processor : recordProcessors) {
+      if (processor.accepts(event.getValueType())) {
+        return processor;
+      }
+    }
+
+    throw NoSuchProcessorException.forRecord(event);
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.api.EmptyProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.DefaultZeebeDbFactory;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a stream processor replays a log of small batches on recovery, depending on how
+ * many batches are replayed per transaction. Every batch consists of a command and the event it
+ * produced, as most batches written by the engine do. The events are replayed by a processor which
+ * does nothing, such that the transactions dominate, as they do when the applied events are small.
+ *
+ * <p>Every operation opens a new stream processor on an empty state, replays the whole log, and
+ * closes the processor again; the score is given in replayed batches.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class StreamProcessorReplayPerformanceTest {
+  private static final int BATCH_COUNT = 10_000;
+
+  /**
+   * Replaying 100 batches per transaction is about twice as fast as replaying each batch on its
+   * own; the bound leaves room for the noise of opening and closing the processor.
+   */
+  private static final double MIN_SPEEDUP = 1.25;
+
+  @Param({"1", "10", "100"})
+  public int maxBatchesInReplayTransaction;
+
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+  private StreamPlatform streamPlatform;
+
+  @Setup
+  public void setup() throws Exception {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+    closeables.add(actorScheduler);
+
+    final var dataDirectory = Files.createTempDirectory("replay");
+    closeables.add(() -> FileUtil.deleteFolderIfExists(dataDirectory));
+
+    streamPlatform =
+        new StreamPlatform(
+            dataDirectory,
+            closeables,
+            actorScheduler,
+            DefaultZeebeDbFactory.defaultFactory(),
+            InstantSource.system());
+    streamPlatform.withRecordProcessors(List.of(new ReplayOnlyProcessor()));
+
+    for (int i = 1; i <= BATCH_COUNT; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .key(Protocol.encodePartitionId(1, i))
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .causedBy(0));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    Collections.reverse(closeables);
+    CloseHelper.quietCloseAll(closeables);
+    closeables.clear();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_COUNT)
+  public void measureReplay() throws Exception {
+    // the recovery is awaited via the lifecycle listener, which must not see the previous one
+    streamPlatform.resetMockInvocations();
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction));
+
+    // closing the processor deletes its state, so the next operation replays from the start
+    streamPlatform.closeStreamProcessor();
+  }
+
+  @JMHTest("measureReplay")
+  void shouldReplayFasterWithMultipleBatchesPerTransaction(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = new double[1];
+    JMHTestCase.of(
+            getClass(),
+            "measureReplay",
+            options -> options.param("maxBatchesInReplayTransaction", "1"))
+        .run()
+        .satisfies(result -> referenceScore[0] = result.getPrimaryResult().getScore());
+    testCase.withOptions(options -> options.param("maxBatchesInReplayTransaction", "100"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(MIN_SPEEDUP * referenceScore[0], 0);
+  }
+
+  private static final class ReplayOnlyProcessor implements RecordProcessor {
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      return EmptyProcessingResult.INSTANCE;
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return EmptyProcessingResult.INSTANCE;
+    }
+  }
+}
@@ -30,6 +30,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -366,6 +369,62 @@ final class StreamProcessorReplayTest {
             any(Throwable.class), any(TypedRecord.class), any(ProcessingResultBuilder.class));
   }
 
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    writeCommandsWithEvents(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(3L);
+  }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionAgainOnRecoverableFailure() {
+    // given
+    writeCommandsWithEvents(2);
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var replayedPositions = new CopyOnWriteArrayList<Long>();
+    final var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> event = invocation.getArgument(0);
+              replayedPositions.add(event.getPosition());
+              if (event.getPosition() == 4L && failed.compareAndSet(false, true)) {
+                throw new RecoverableException("replay error");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then
+    assertThat(replayedPositions).containsExactly(2L, 4L, 2L, 4L);
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(3L));
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(4L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(3L);
+  }
+
   @Test
   void shouldIgnoreKeysFromDifferentPartition() {
     // given
@@ -390,4 +449,15 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  private void writeCommandsWithEvents(final int count) {
+    for (int i = 1; i <= count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .key(Protocol.encodePartitionId(1, i))
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .causedBy(0));
+    }
+  }
 }
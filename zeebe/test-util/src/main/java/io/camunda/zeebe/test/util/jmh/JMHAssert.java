@@ -83,4 +83,33 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the given secondary result of this benchmark, e.g. one reported by a profiler, is
+   * at most the given maximum score.
+   *
+   * @param label the label of the secondary result, e.g. {@code gc.alloc.rate.norm}
+   * @param maximumScore the maximum allowed score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert hasSecondaryResultAtMost(final String label, final double maximumScore) {
+    final var result = actual.getSecondaryResults().get(label);
+    if (result == null) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected a secondary result labeled %s, but found only %s",
+              label, actual.getSecondaryResults().keySet()));
+    }
+
+    final double score = result.getScore();
+    if (score > maximumScore) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected secondary result %s to be at most %s, but got %s",
+              label, DECIMAL_FORMAT.format(maximumScore), DECIMAL_FORMAT.format(score)));
+    }
+
+    return myself;
+  }
 }
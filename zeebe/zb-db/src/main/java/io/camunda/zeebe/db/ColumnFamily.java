@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,24 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the stored values of all given keys with a single batched read, instead of one read
+   * per key. This is considerably cheaper than calling {@link #get(DbKey)} for each key when
+   * looking up many keys at once.
+   *
+   * <p>The visitor is called once for each given key, in the iteration order of the collection. If
+   * a key was not found in the column family, the visitor is called with a null value. Be aware
+   * that the given DbValue wraps the stored value and reflects the current visit step, the same way
+   * as for {@link #forEach(BiConsumer)}. The keys are serialized while iterating the collection
+   * before the lookup, and the collection is iterated once more to visit the values. Its iterator
+   * may therefore return a single reused key instance wrapping each key in turn, as long as the
+   * collection can be iterated more than once.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which is called for each key with the corresponding value, or null
+   */
+  void getAll(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when the transaction of a {@link TransactionContext} is committed or rolled back.
+ * This allows keeping in-memory data derived from the state consistent with it, e.g. by undoing
+ * changes when the transaction which caused them is rolled back.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was committed successfully. */
+  void onCommit();
+
+  /**
+   * Called when the current transaction is rolled back, i.e. all changes since the last commit are
+   * discarded. Note that this may also be called right after a commit, without any changes in
+   * between.
+   */
+  void onRollback();
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db;
 
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +54,15 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * Returns a property of the database which consists of multiple values, e.g. {@code
+   * rocksdb.aggregated-table-properties}.
+   *
+   * @param propertyName the name of the property
+   * @return the values of the property by their name, or empty if the property is unknown
+   */
+  Optional<Map<String, String>> getMapProperty(String propertyName);
+
   TransactionContext createContext();
 
   /**
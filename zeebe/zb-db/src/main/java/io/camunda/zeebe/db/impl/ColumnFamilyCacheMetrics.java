@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
+
+/**
+ * Counts the hits and misses of a cached column family. Unlike the access latencies, these are
+ * recorded whenever the column family is cached, regardless of the configured access metrics, since
+ * the cache can't be tuned without them.
+ */
+public final class ColumnFamilyCacheMetrics {
+
+  private static final Counter CACHE_ACCESS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_cache_access_total")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Number of point lookups per column family, by whether the cache was hit or missed")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+
+  public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue> ColumnFamilyCacheMetrics(
+      final int partitionId, final ColumnFamilyNames columnFamily) {
+    final var partitionLabel = String.valueOf(partitionId);
+    final var columnFamilyLabel = columnFamily.name();
+    hits = CACHE_ACCESS.labels(partitionLabel, columnFamilyLabel, "hit");
+    misses = CACHE_ACCESS.labels(partitionLabel, columnFamilyLabel, "miss");
+  }
+
+  /** Records a point lookup which was served from the column family cache. */
+  public void recordHit() {
+    hits.inc();
+  }
+
+  /** Records a point lookup which could not be served from the column family cache. */
+  public void recordMiss() {
+    misses.inc();
+  }
+}
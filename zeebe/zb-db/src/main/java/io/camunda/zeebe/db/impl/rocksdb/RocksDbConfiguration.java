@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -41,8 +42,27 @@ public final class RocksDbConfiguration {
    */
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
+  /**
+   * Enabling this feature marks SST files which contain many deletions (tombstones) for compaction
+   * as soon as they are written, instead of waiting for the regular size based compaction. Most
+   * state is short-lived and deleted key by key when an instance completes, so tombstones pile up
+   * quickly and slow down prefix iteration until they are compacted away. This is experimental, as
+   * compacting more eagerly trades read latency for compaction I/O, and is disabled by default.
+   */
+  public static final boolean DEFAULT_DELETION_TRIGGERED_COMPACTION_ENABLED = false;
+
+  /**
+   * Enabling this feature opens a plain RocksDB instead of an optimistic transaction DB, and
+   * buffers the writes of each transaction in an indexed write batch. Transactions still read their
+   * own writes and are rolled back by discarding the batch, but written keys are not tracked to
+   * detect conflicts, which is only overhead as long as the state is written by a single writer.
+   */
+  public static final boolean DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED = false;
+
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final int DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 10_000;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +72,11 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean deletionTriggeredCompactionEnabled =
+      DEFAULT_DELETION_TRIGGERED_COMPACTION_ENABLED;
+
+  private boolean writeBatchTransactionsEnabled = DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -72,6 +97,16 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Names of the column families for which point lookups are served from an in-memory,
+   * write-through cache in front of RocksDB. The cache is kept per transaction context and
+   * invalidated on rollback. Per default no column family is cached.
+   */
+  private Set<String> cachedColumnFamilies = Set.of();
+
+  /** Maximum number of entries kept in the cache of each cached column family. */
+  private int columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +190,42 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isDeletionTriggeredCompactionEnabled() {
+    return deletionTriggeredCompactionEnabled;
+  }
+
+  public RocksDbConfiguration setDeletionTriggeredCompactionEnabled(
+      final boolean deletionTriggeredCompactionEnabled) {
+    this.deletionTriggeredCompactionEnabled = deletionTriggeredCompactionEnabled;
+    return this;
+  }
+
+  public boolean isWriteBatchTransactionsEnabled() {
+    return writeBatchTransactionsEnabled;
+  }
+
+  public RocksDbConfiguration setWriteBatchTransactionsEnabled(
+      final boolean writeBatchTransactionsEnabled) {
+    this.writeBatchTransactionsEnabled = writeBatchTransactionsEnabled;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public int getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final int columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
 }
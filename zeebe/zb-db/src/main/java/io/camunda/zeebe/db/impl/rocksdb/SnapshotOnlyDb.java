@@ -17,6 +17,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
@@ -62,6 +63,11 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("getProperty");
   }
 
+  @Override
+  public Optional<Map<String, String>> getMapProperty(final String propertyName) {
+    throw unsupported("getMapProperty");
+  }
+
   @Override
   public TransactionContext createContext() {
     throw unsupported("createContext");
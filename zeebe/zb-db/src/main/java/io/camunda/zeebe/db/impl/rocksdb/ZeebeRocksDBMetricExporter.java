@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.prometheus.client.Gauge;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +60,22 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.estimate-live-data-size", LIVE_METRICS_PREFIX, LIVE_METRICS_HELP),
   };
 
+  private static final String DELETE_METRICS_HELP =
+      "Number of delete entries, i.e. tombstones, of RocksDb per column family and partition, in the active and immutable memtables and in the SST files";
+  private static final String DELETE_METRICS_PREFIX = "rocksdb_deletes";
+  private static final RocksDBMetric[] DELETE_METRICS = {
+    new RocksDBMetric(
+        "rocksdb.num-deletes-active-mem-table", DELETE_METRICS_PREFIX, DELETE_METRICS_HELP),
+    new RocksDBMetric(
+        "rocksdb.num-deletes-imm-mem-tables", DELETE_METRICS_PREFIX, DELETE_METRICS_HELP),
+    // almost all tombstones are in the SST files, which are only visible in their table properties
+    new RocksDBMetric(
+        "rocksdb.aggregated-table-properties",
+        "num_deletions",
+        DELETE_METRICS_PREFIX,
+        DELETE_METRICS_HELP),
+  };
+
   private static final String WRITE_METRICS_HELP =
       "Properties related to writes, flushes and compactions for RocksDb per column family and partition";
   private static final String WRITE_METRICS_PREFIX = "rocksdb_writes";
@@ -70,6 +87,8 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.mem-table-flush-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.num-running-flushes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    new RocksDBMetric(
+        "rocksdb.estimate-pending-compaction-bytes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
   private final String partition;
@@ -87,6 +106,7 @@ public final class ZeebeRocksDBMetricExporter<
     exportMetrics(LIVE_METRICS);
     exportMetrics(SST_METRICS);
     exportMetrics(WRITE_METRICS);
+    exportMetrics(DELETE_METRICS);
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
@@ -99,8 +119,7 @@ public final class ZeebeRocksDBMetricExporter<
     }
     for (final RocksDBMetric metric : metrics) {
       try {
-        database
-            .getProperty(metric.getPropertyName())
+        readValue(database, metric)
             .map(Double::parseDouble)
             .ifPresent(value -> metric.exportValue(partition, value));
       } catch (final Exception exception) {
@@ -109,13 +128,38 @@ public final class ZeebeRocksDBMetricExporter<
     }
   }
 
+  private Optional<String> readValue(
+      final ZeebeDb<ColumnFamilyType> database, final RocksDBMetric metric) {
+    if (metric.getMapKey() == null) {
+      return database.getProperty(metric.getPropertyName());
+    }
+
+    return database
+        .getMapProperty(metric.getPropertyName())
+        .map(values -> values.get(metric.getMapKey()));
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
+    private final String mapKey;
     private final Gauge gauge;
 
     private RocksDBMetric(final String propertyName, final String namePrefix, final String help) {
+      this(propertyName, null, namePrefix, help);
+    }
+
+    /**
+     * @param mapKey the key of the value within a map property, or null if the property has a
+     *     single value
+     */
+    private RocksDBMetric(
+        final String propertyName,
+        final String mapKey,
+        final String namePrefix,
+        final String help) {
       this.propertyName = Objects.requireNonNull(propertyName);
+      this.mapKey = mapKey;
 
       gauge =
           Gauge.build()
@@ -127,6 +171,10 @@ public final class ZeebeRocksDBMetricExporter<
     }
 
     private String gaugeSuffix() {
+      if (mapKey != null) {
+        return "_" + mapKey;
+      }
+
       final String suffix =
           "_" + propertyName.substring(propertyName.indexOf(".") + 1); // cut off "rocksdb." prefix
       return suffix.replaceAll("-", "_");
@@ -139,5 +187,9 @@ public final class ZeebeRocksDBMetricExporter<
     public String getPropertyName() {
       return propertyName;
     }
+
+    public String getMapKey() {
+      return mapKey;
+    }
   }
 }
@@ -40,11 +40,22 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.TablePropertiesCollectorFactory;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  /**
+   * An SST file is marked for compaction if any window of this many consecutive entries contains at
+   * least {@link #DELETION_TRIGGER} deletions, or if at least {@link #DELETION_RATIO} of all its
+   * entries are deletions.
+   */
+  private static final long DELETION_WINDOW_SIZE = 1_000;
+
+  private static final long DELETION_TRIGGER = 500;
+  private static final double DELETION_RATIO = 0.5;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -66,13 +77,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
+      final var options = prepareOptions(closeables);
+      final var path = pathName.getAbsolutePath();
+      if (rocksDbConfiguration.isWriteBatchTransactionsEnabled()) {
+        return ZeebeTransactionDb.openWriteBatchDb(
+            options, path, closeables, rocksDbConfiguration, consistencyChecksSettings, metrics);
+      }
+
       return ZeebeTransactionDb.openTransactionalDb(
-          prepareOptions(closeables),
-          pathName.getAbsolutePath(),
-          closeables,
-          rocksDbConfiguration,
-          consistencyChecksSettings,
-          metrics);
+          options, path, closeables, rocksDbConfiguration, consistencyChecksSettings, metrics);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -166,7 +179,8 @@ public final class ZeebeRocksDbFactory<
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+      return withDeletionTriggeredCompaction(
+          createFromUserOptions(userProvidedColumnFamilyOptions), closeables);
     }
 
     return createDefaultColumnFamilyOptions(closeables);
@@ -190,7 +204,7 @@ public final class ZeebeRocksDbFactory<
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
       final List<AutoCloseable> closeables) {
-    final var columnFamilyOptions = new ColumnFamilyOptions();
+    final var columnFamilyOptions = createBaseColumnFamilyOptions(closeables);
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
     // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
@@ -269,6 +283,38 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
+  private ColumnFamilyOptions createBaseColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return withDeletionTriggeredCompaction(new ColumnFamilyOptions(), closeables);
+  }
+
+  /**
+   * Adds the collector which triggers compactions of files with many deletions, if enabled. This
+   * applies to the default as well as to user provided column family options.
+   *
+   * @return the given options if deletion triggered compaction is disabled, otherwise a copy of
+   *     them with the collector; the given options are closed in that case
+   */
+  private ColumnFamilyOptions withDeletionTriggeredCompaction(
+      final ColumnFamilyOptions columnFamilyOptions, final List<AutoCloseable> closeables) {
+    if (!rocksDbConfiguration.isDeletionTriggeredCompactionEnabled()) {
+      return columnFamilyOptions;
+    }
+
+    // the Java API only allows setting table properties collectors via Options, so we create the
+    // column family options from these; the native options keep a reference on the factory
+    final var collectorFactory =
+        TablePropertiesCollectorFactory.NewCompactOnDeletionCollectorFactory(
+            DELETION_WINDOW_SIZE, DELETION_TRIGGER, DELETION_RATIO);
+    closeables.add(collectorFactory);
+
+    try (columnFamilyOptions;
+        final var dbOptions = new DBOptions();
+        final var options = new Options(dbOptions, columnFamilyOptions)) {
+      options.setTablePropertiesCollectorFactory(List.of(collectorFactory));
+      return new ColumnFamilyOptions(options);
+    }
+  }
+
   private TableFormatConfig createTableFormatConfig(
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
@@ -0,0 +1,246 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, least-recently-used cache of the values of a single column family, as seen by a single
+ * {@link ZeebeTransaction}. The cache is write-through: every write done via the column family is
+ * applied to the cache as well as to the transaction, so the cache always reflects what the
+ * transaction would read.
+ *
+ * <p>Since the cache contains uncommitted writes, it is cleared whenever the owning transaction is
+ * rolled back after it was modified. Committing a transaction keeps the cache as is, since the
+ * cached values become the committed values.
+ *
+ * <p>Absent keys are cached as well, such that repeated {@code exists} checks on missing keys are
+ * served from memory.
+ *
+ * <p>Other transaction contexts of the same database, e.g. the ones used for admin operations or
+ * queries, may write to the same column family. To not serve stale values, all caches of a column
+ * family share a counter of the committed transactions which wrote to it. A cache which sees that
+ * another context committed writes since it last looked drops all of its entries.
+ *
+ * <p>Lookups are on the hot path of command processing, so the cache does not allocate once it is
+ * filled: keys and values are copied into buffers owned by the entries, and entries which are
+ * evicted or dropped are reused for other keys. As a consequence, a returned value is only valid
+ * until the cache is modified the next time.
+ *
+ * <p>This class is not thread-safe, same as the transaction it belongs to.
+ */
+final class ColumnFamilyCache {
+
+  /** Marker value for keys which are known to not exist; compared by identity. */
+  static final DirectBuffer ABSENT = new UnsafeBuffer(0, 0);
+
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final Object2ObjectHashMap<DirectBuffer, Entry> entries = new Object2ObjectHashMap<>();
+  private final int maxEntries;
+  private final AtomicLong committedWrites;
+  private long knownCommittedWrites;
+  private boolean modified;
+
+  // the cached entries, from the least to the most recently used one
+  private Entry eldest;
+  private Entry youngest;
+  // entries which are not cached, linked via their younger entry
+  private Entry idle;
+
+  /**
+   * @param maxEntries the maximum number of cached entries
+   * @param committedWrites the number of committed transactions which wrote to the column family,
+   *     shared by all caches of the column family of the same database
+   */
+  ColumnFamilyCache(final int maxEntries, final AtomicLong committedWrites) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the column family cache size to be greater than 0, but was " + maxEntries);
+    }
+
+    this.maxEntries = maxEntries;
+    this.committedWrites = committedWrites;
+    knownCommittedWrites = committedWrites.get();
+  }
+
+  /**
+   * @return the cached value for the given key, which is valid until the cache is modified, {@link
+   *     #ABSENT} if the key is known to not exist, or null if nothing is cached for the key
+   */
+  DirectBuffer get(final byte[] key, final int keyLength) {
+    final long currentCommittedWrites = committedWrites.get();
+    if (currentCommittedWrites != knownCommittedWrites) {
+      // another context committed writes to the column family; uncommitted writes of the owning
+      // transaction are dropped as well, but are still read through the transaction
+      clear();
+      knownCommittedWrites = currentCommittedWrites;
+    }
+
+    lookupKey.wrap(key, 0, keyLength);
+    final var entry = entries.get(lookupKey);
+    if (entry == null) {
+      return null;
+    }
+
+    markUsed(entry);
+    return entry.absent ? ABSENT : entry.value;
+  }
+
+  /**
+   * Caches a value read from the transaction. A null value marks the key as absent. Reads do not
+   * mark the cache as modified, since they reflect the transaction's state.
+   */
+  void cacheRead(final byte[] key, final int keyLength, final byte[] value) {
+    final var entry = acquire(key, keyLength);
+    if (value == null) {
+      entry.absent = true;
+    } else {
+      entry.setValue(value, value.length);
+    }
+  }
+
+  /** Applies a write of the given value to the cache. */
+  void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    acquire(key, keyLength).setValue(value, valueLength);
+    modified = true;
+  }
+
+  /** Applies a delete of the given key to the cache. */
+  void delete(final byte[] key, final int keyLength) {
+    acquire(key, keyLength).absent = true;
+    modified = true;
+  }
+
+  /**
+   * Called when the owning transaction was committed; cached writes are now durable. If the
+   * transaction wrote to the column family, the other caches of it are invalidated.
+   */
+  void onCommit() {
+    if (modified) {
+      final long currentCommittedWrites = committedWrites.incrementAndGet();
+      if (currentCommittedWrites != knownCommittedWrites + 1) {
+        // another context committed writes since we last looked, which the cache may not reflect
+        clear();
+      }
+      knownCommittedWrites = currentCommittedWrites;
+      modified = false;
+    }
+  }
+
+  /** Called when the owning transaction was rolled back; drops any uncommitted writes. */
+  void onRollback() {
+    if (modified) {
+      clear();
+      modified = false;
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return the cached entry of the given key, marked as most recently used; if the key is not
+   *     cached yet, an unused or the least recently used entry is taken over for it
+   */
+  private Entry acquire(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    var entry = entries.get(lookupKey);
+    if (entry != null) {
+      markUsed(entry);
+      return entry;
+    }
+
+    if (idle != null) {
+      entry = idle;
+      idle = entry.younger;
+    } else if (entries.size() < maxEntries) {
+      entry = new Entry();
+    } else {
+      entry = eldest;
+      unlink(entry);
+      entries.remove(entry.key);
+    }
+
+    // the key must only change while the entry is not part of the map
+    entry.setKey(key, keyLength);
+    entries.put(entry.key, entry);
+    link(entry);
+    return entry;
+  }
+
+  private void clear() {
+    while (eldest != null) {
+      final var entry = eldest;
+      unlink(entry);
+      entry.younger = idle;
+      idle = entry;
+    }
+    entries.clear();
+  }
+
+  private void markUsed(final Entry entry) {
+    if (entry != youngest) {
+      unlink(entry);
+      link(entry);
+    }
+  }
+
+  private void link(final Entry entry) {
+    entry.elder = youngest;
+    entry.younger = null;
+    if (youngest == null) {
+      eldest = entry;
+    } else {
+      youngest.younger = entry;
+    }
+    youngest = entry;
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.elder == null) {
+      eldest = entry.younger;
+    } else {
+      entry.elder.younger = entry.younger;
+    }
+
+    if (entry.younger == null) {
+      youngest = entry.elder;
+    } else {
+      entry.younger.elder = entry.elder;
+    }
+
+    entry.elder = null;
+    entry.younger = null;
+  }
+
+  private static final class Entry {
+    private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+    private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer key = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer value = new UnsafeBuffer(0, 0);
+    private boolean absent;
+    private Entry elder;
+    private Entry younger;
+
+    private void setKey(final byte[] source, final int length) {
+      keyBuffer.putBytes(0, source, 0, length);
+      key.wrap(keyBuffer, 0, length);
+    }
+
+    private void setValue(final byte[] source, final int length) {
+      valueBuffer.putBytes(0, source, 0, length);
+      value.wrap(valueBuffer, 0, length);
+      absent = false;
+    }
+  }
+}
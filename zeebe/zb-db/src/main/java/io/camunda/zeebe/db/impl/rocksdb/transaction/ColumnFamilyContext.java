@@ -13,7 +13,6 @@ import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
-import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -81,9 +80,9 @@ public class ColumnFamilyContext {
     return keyViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
-  public void wrapValueView(final byte[] value) {
+  public void wrapValueView(final DirectBuffer value) {
     if (value != null) {
-      valueViewBuffer.wrap(value);
+      valueViewBuffer.wrap(value, 0, value.capacity());
     } else {
       valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
     }
@@ -97,22 +96,36 @@ public class ColumnFamilyContext {
     return valueViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
-  public void withPrefixKey(final DbKey key, final ObjIntConsumer<byte[]> prefixKeyConsumer) {
-    if (prefixKeyBuffers.peek() == null) {
+  /**
+   * Writes the given key, prefixed with the column family prefix, into one of the prefix buffers
+   * and returns it. The buffer must be given back via {@link #releasePrefixKey} once it's not used
+   * anymore.
+   *
+   * @param key the prefix key to write
+   * @return the buffer containing the written prefix, see {@link #prefixKeyLength(DbKey)}
+   */
+  ExpandableArrayBuffer acquirePrefixKey(final DbKey key) {
+    final ExpandableArrayBuffer prefixKeyBuffer = prefixKeyBuffers.poll();
+    if (prefixKeyBuffer == null) {
       throw new IllegalStateException(
           "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
     }
 
-    final ExpandableArrayBuffer prefixKeyBuffer = prefixKeyBuffers.remove();
-    try {
-      prefixKeyBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
-      key.write(prefixKeyBuffer, Long.BYTES);
-      final int prefixLength = Long.BYTES + key.getLength();
+    prefixKeyBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(prefixKeyBuffer, Long.BYTES);
+    return prefixKeyBuffer;
+  }
 
-      prefixKeyConsumer.accept(prefixKeyBuffer.byteArray(), prefixLength);
-    } finally {
-      prefixKeyBuffers.add(prefixKeyBuffer);
-    }
+  void releasePrefixKey(final ExpandableArrayBuffer prefixKeyBuffer) {
+    prefixKeyBuffers.add(prefixKeyBuffer);
+  }
+
+  int prefixKeyLength(final DbKey key) {
+    return Long.BYTES + key.getLength();
+  }
+
+  long getColumnFamilyPrefix() {
+    return columnFamilyPrefix;
   }
 
   ByteBuffer keyWithColumnFamily(DbKey key) {
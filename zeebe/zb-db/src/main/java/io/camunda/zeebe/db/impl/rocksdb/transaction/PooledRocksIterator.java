@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.nio.ByteBuffer;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
+
+/**
+ * A {@link RocksIterator} which is pooled by a {@link ZeebeTransaction}, together with the direct
+ * buffers used to seek and to read keys and values. Keys and values are copied into these reusable
+ * buffers instead of into new byte arrays, so that iterating does not allocate in the steady state.
+ *
+ * <p>The views returned by {@link #key()} and {@link #value()} are only valid until the iterator is
+ * moved, after which they are overwritten.
+ *
+ * <p>The native iterator belongs to the transaction it was created in, and is closed whenever that
+ * transaction is committed or rolled back. The buffers, however, are kept and reused with the next
+ * native iterator.
+ */
+final class PooledRocksIterator {
+
+  private static final int INITIAL_BUFFER_CAPACITY = 256;
+
+  private final UnsafeBuffer seekView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+  private ByteBuffer seekBuffer = allocate(INITIAL_BUFFER_CAPACITY);
+  private ByteBuffer keyBuffer = allocate(INITIAL_BUFFER_CAPACITY);
+  private ByteBuffer valueBuffer = allocate(INITIAL_BUFFER_CAPACITY);
+  private RocksIterator iterator;
+  private boolean keyRead;
+
+  PooledRocksIterator() {
+    seekView.wrap(seekBuffer);
+  }
+
+  boolean isOpen() {
+    return iterator != null;
+  }
+
+  void open(final RocksIterator iterator) {
+    this.iterator = iterator;
+    keyRead = false;
+  }
+
+  /** Closes the native iterator, but keeps the buffers around for reuse. */
+  void closeIterator() {
+    keyRead = false;
+    if (iterator != null) {
+      iterator.close();
+      iterator = null;
+    }
+  }
+
+  /**
+   * Positions the iterator at the first entry with a key greater or equal to the given key in the
+   * column family with the given prefix.
+   */
+  void seek(final long columnFamilyPrefix, final DbKey key) {
+    final var length = Long.BYTES + key.getLength();
+    if (length > seekBuffer.capacity()) {
+      seekBuffer = allocate(length);
+      seekView.wrap(seekBuffer);
+    }
+
+    seekView.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(seekView, Long.BYTES);
+    seekBuffer.clear().limit(length);
+    iterator.seek(seekBuffer);
+    keyRead = false;
+  }
+
+  boolean isValid() {
+    return iterator.isValid();
+  }
+
+  void next() {
+    iterator.next();
+    keyRead = false;
+  }
+
+  /**
+   * Returns a view of the full key of the current entry, including the column family prefix. The
+   * key is only copied out of the native iterator once per entry, however often it is accessed.
+   *
+   * @return a view of the full key of the current entry, including the column family prefix
+   */
+  DirectBuffer key() {
+    if (keyRead) {
+      return keyView;
+    }
+
+    int length = iterator.key(keyBuffer.clear());
+    if (length > keyBuffer.capacity()) {
+      keyBuffer = allocate(length);
+      length = iterator.key(keyBuffer);
+    }
+
+    keyView.wrap(keyBuffer, 0, length);
+    keyRead = true;
+    return keyView;
+  }
+
+  /**
+   * @return a view of the value of the current entry
+   */
+  DirectBuffer value() {
+    int length = iterator.value(valueBuffer.clear());
+    if (length > valueBuffer.capacity()) {
+      valueBuffer = allocate(length);
+      length = iterator.value(valueBuffer);
+    }
+
+    valueView.wrap(valueBuffer, 0, length);
+    return valueView;
+  }
+
+  /**
+   * @return true if the key of the current entry starts with the first {@code prefixLength} bytes
+   *     of the given prefix
+   */
+  boolean keyStartsWith(final byte[] prefix, final int prefixLength) {
+    final var key = key();
+    if (key.capacity() < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (key.getByte(i) != prefix[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static ByteBuffer allocate(final int minCapacity) {
+    return ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(minCapacity));
+  }
+}
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
@@ -18,13 +16,20 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.ColumnFamilyCacheMetrics;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +61,27 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final int cacheSize;
+  private final ColumnFamilyCacheMetrics cacheMetrics;
+  private final UnsafeBuffer readValueView = new UnsafeBuffer(0, 0);
+  private final ExpandableArrayBuffer cachedValueBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer cachedValueView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer multiGetValueView = new UnsafeBuffer(0, 0);
+  private final List<EntryBuffers> entryBuffers = new ArrayList<>();
+  private final EntryVisitor<KeyType, ValueType, Consumer<ValueType>> valueConsumerVisitor =
+      (consumer, key, value) -> {
+        consumer.accept(value);
+        return true;
+      };
+  private final EntryVisitor<KeyType, ValueType, BiConsumer<KeyType, ValueType>> consumerVisitor =
+      (consumer, key, value) -> {
+        consumer.accept(key, value);
+        return true;
+      };
+  private final EntryVisitor<KeyType, ValueType, KeyValuePairVisitor<KeyType, ValueType>>
+      pairVisitor = (visitor, key, value) -> visitor.visit(key, value);
+  private ColumnFamilyCache cache;
+  private int iterationDepth;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +90,9 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final int cacheSize,
+      final ColumnFamilyCacheMetrics cacheMetrics) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +100,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.cacheSize = cacheSize;
+    this.cacheMetrics = cacheMetrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -86,12 +116,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +130,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +143,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +154,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -157,57 +166,63 @@ class TransactionalColumnFamily<
   }
 
   @Override
-  public void forEach(final Consumer<ValueType> consumer) {
+  public void getAll(final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
     ensureInOpenTransaction(
-        transaction ->
-            forEachInPrefix(
-                new DbNullKey(),
-                (k, v) -> {
-                  consumer.accept(v);
-                  return true;
-                }));
+        transaction -> {
+          final List<byte[]> values;
+          try (final var timer = metrics.measureGetLatency()) {
+            values = multiGet(transaction, keys);
+          }
+
+          var index = 0;
+          for (final var key : keys) {
+            final var value = values.get(index++);
+            if (value == null) {
+              visitor.accept(key, null);
+            } else {
+              multiGetValueView.wrap(value);
+              valueInstance.wrap(multiGetValueView, 0, value.length);
+              visitor.accept(key, valueInstance);
+            }
+          }
+        });
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    forEachInPrefix(DbNullKey.INSTANCE, DbNullKey.INSTANCE, valueConsumerVisitor, consumer);
   }
 
   @Override
   public void forEach(final BiConsumer<KeyType, ValueType> consumer) {
-    ensureInOpenTransaction(
-        transaction ->
-            forEachInPrefix(
-                new DbNullKey(),
-                (k, v) -> {
-                  consumer.accept(k, v);
-                  return true;
-                }));
+    forEachInPrefix(DbNullKey.INSTANCE, DbNullKey.INSTANCE, consumerVisitor, consumer);
   }
 
   @Override
   public void whileTrue(
       final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, new DbNullKey(), visitor));
+    forEachInPrefix(startAtKey, DbNullKey.INSTANCE, pairVisitor, visitor);
   }
 
   @Override
   public void whileTrue(final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(transaction -> forEachInPrefix(new DbNullKey(), visitor));
+    forEachInPrefix(DbNullKey.INSTANCE, DbNullKey.INSTANCE, pairVisitor, visitor);
   }
 
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(
-        transaction ->
-            forEachInPrefix(
-                keyPrefix,
-                (k, v) -> {
-                  visitor.accept(k, v);
-                  return true;
-                }));
+    forEachInPrefix(keyPrefix, keyPrefix, consumerVisitor, visitor);
   }
 
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(transaction -> forEachInPrefix(keyPrefix, visitor));
+    forEachInPrefix(keyPrefix, keyPrefix, pairVisitor, visitor);
   }
 
   @Override
@@ -215,7 +230,7 @@ class TransactionalColumnFamily<
       final DbKey keyPrefix,
       final KeyType startAtKey,
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, keyPrefix, visitor));
+    forEachInPrefix(startAtKey, keyPrefix, pairVisitor, visitor);
   }
 
   @Override
@@ -225,10 +240,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -239,10 +251,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -253,13 +262,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(peekValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -271,7 +274,8 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction ->
             forEachInPrefix(
-                new DbNullKey(),
+                transaction,
+                DbNullKey.INSTANCE,
                 (key, value) -> {
                   isEmpty.set(false);
                   return false;
@@ -282,7 +286,7 @@ class TransactionalColumnFamily<
 
   @Override
   public long count() {
-    return countEachInPrefix(new DbNullKey());
+    return countEachInPrefix(DbNullKey.INSTANCE);
   }
 
   @Override
@@ -290,6 +294,12 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  private long countEachInPrefix(final DbKey prefix) {
+    final var count = new AtomicLong(0);
+    ensureInOpenTransaction(transaction -> count.set(countEachInPrefix(transaction, prefix)));
+    return count.get();
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -306,12 +316,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = peekValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,18 +327,174 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = peekValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Reads the value of the key currently written to the column family context, going through the
+   * cache if this column family is cached. Other than {@link #peekValue}, the returned value stays
+   * valid when the cache is modified, such that the value instance can be wrapped around it.
+   */
+  private DirectBuffer getValue(final ZeebeTransaction transaction) throws Exception {
+    final var value = peekValue(transaction);
+    if (value == null || value == readValueView) {
+      return value;
+    }
+
+    // the cache reuses its buffers for other keys, so the cached value is copied
+    cachedValueBuffer.putBytes(0, value, 0, value.capacity());
+    cachedValueView.wrap(cachedValueBuffer, 0, value.capacity());
+    return cachedValueView;
+  }
+
+  /**
+   * Reads the value of the key currently written to the column family context, going through the
+   * cache if this column family is cached. A value served from the cache is only valid until the
+   * cache is modified.
+   */
+  private DirectBuffer peekValue(final ZeebeTransaction transaction) throws Exception {
+    final var cache = getCache(transaction);
+    if (cache == null) {
+      return wrapReadValue(readValue(transaction));
+    }
+
+    final var keyBytes = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+    final var cachedValue = cache.get(keyBytes, keyLength);
+    if (cachedValue != null) {
+      cacheMetrics.recordHit();
+      return cachedValue == ColumnFamilyCache.ABSENT ? null : cachedValue;
+    }
+
+    cacheMetrics.recordMiss();
+    final var value = readValue(transaction);
+    cache.cacheRead(keyBytes, keyLength, value);
+    return wrapReadValue(value);
+  }
+
+  private DirectBuffer wrapReadValue(final byte[] value) {
+    if (value == null) {
+      return null;
+    }
+
+    readValueView.wrap(value);
+    return readValueView;
+  }
+
+  /**
+   * Reads the values of all given keys, serving the ones it can from the cache and reading all
+   * others with a single MultiGet.
+   *
+   * @return the values in the iteration order of the given keys; missing keys have a null value
+   */
+  private List<byte[]> multiGet(final ZeebeTransaction transaction, final Collection<KeyType> keys)
+      throws Exception {
+    final var cache = getCache(transaction);
+    final var values = new ArrayList<byte[]>(keys.size());
+    final var missingKeys = new ArrayList<byte[]>(keys.size());
+    final var missingIndexes = new int[keys.size()];
+
+    for (final var key : keys) {
+      final var keyBytes = columnFamilyContext.keyWithColumnFamily(key).array();
+      final var cachedValue = cache == null ? null : cache.get(keyBytes, keyBytes.length);
+
+      if (cachedValue != null) {
+        cacheMetrics.recordHit();
+        // the cache reuses its buffers for other keys, so the cached value is copied
+        values.add(cachedValue == ColumnFamilyCache.ABSENT ? null : copyValue(cachedValue));
+      } else {
+        if (cache != null) {
+          cacheMetrics.recordMiss();
+        }
+        missingIndexes[missingKeys.size()] = values.size();
+        missingKeys.add(keyBytes);
+        values.add(null);
+      }
+    }
+
+    if (!missingKeys.isEmpty()) {
+      final var readValues =
+          transaction.multiGet(
+              transactionDb.getDefaultReadOptions(), transactionDb.getDefaultHandle(), missingKeys);
+      for (int i = 0; i < readValues.size(); i++) {
+        final var value = readValues.get(i);
+        values.set(missingIndexes[i], value);
+
+        if (cache != null) {
+          final var keyBytes = missingKeys.get(i);
+          cache.cacheRead(keyBytes, keyBytes.length, value);
+        }
+      }
+    }
+
+    return values;
+  }
+
+  private static byte[] copyValue(final DirectBuffer value) {
+    final var copy = new byte[value.capacity()];
+    value.getBytes(0, copy);
+    return copy;
+  }
+
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    transaction.put(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+
+    final var cache = getCache(transaction);
+    if (cache != null) {
+      cache.put(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          valueLength);
+    }
+  }
+
+  private void deleteKey(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+
+    final var cache = getCache(transaction);
+    if (cache != null) {
+      cache.delete(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
+  private ColumnFamilyCache getCache(final ZeebeTransaction transaction) {
+    if (cacheSize <= 0) {
+      return null;
+    }
+
+    if (cache == null) {
+      // the transaction object is reused for the lifetime of the context, so we can keep the cache
+      cache =
+          transaction.getColumnFamilyCache(
+              columnFamily.getValue(),
+              cacheSize,
+              transactionDb.getCommittedWrites(columnFamily.getValue()));
+    }
+    return cache;
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -344,11 +505,32 @@ class TransactionalColumnFamily<
         () -> operation.run((ZeebeTransaction) context.getCurrentTransaction()));
   }
 
+  private <T> void forEachInPrefix(
+      final DbKey startAt,
+      final DbKey prefix,
+      final EntryVisitor<KeyType, ValueType, T> visitor,
+      final T argument) {
+    ensureInOpenTransaction(
+        transaction -> forEachInPrefix(transaction, startAt, prefix, visitor, argument));
+  }
+
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
     return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
   }
 
+  /**
+   * Acquires a pooled iterator of the current transaction, opening it if necessary. The iterator
+   * must be released via {@link ZeebeTransaction#releaseIterator(PooledRocksIterator)} after use.
+   */
+  private PooledRocksIterator acquireIterator(final ZeebeTransaction transaction) {
+    final var iterator = transaction.acquireIterator();
+    if (!iterator.isOpen()) {
+      iterator.open(newIterator(context, transactionDb.getPrefixReadOptions()));
+    }
+    return iterator;
+  }
+
   /**
    * This is the preferred method to implement methods that iterate over a column family.
    *
@@ -357,23 +539,34 @@ class TransactionalColumnFamily<
    *     indicate whether iteration should continue or not, see {@link KeyValuePairVisitor}.
    */
   private void forEachInPrefix(
-      final DbKey prefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    forEachInPrefix(prefix, prefix, visitor);
+      final ZeebeTransaction transaction,
+      final DbKey prefix,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(transaction, prefix, prefix, pairVisitor, visitor);
   }
 
   /**
    * This is the preferred method to implement methods that iterate over a column family.
    *
+   * <p>Iteration reuses a pooled iterator of the transaction, which is shared with all other column
+   * families. Each entry is therefore copied from the iterator into buffers owned by this column
+   * family, which the key and value instances wrap; a later iteration over another column family
+   * leaves them untouched.
+   *
    * @param startAt seek to this key before starting iteration. If null, seek to {@code prefix}
    *     instead.
    * @param prefix of all keys that are iterated over.
-   * @param visitor called for all kv pairs where the key matches the given prefix. The visitor can
-   *     indicate whether iteration should continue or not, see {@link KeyValuePairVisitor}.
+   * @param visitor called with the given argument for all kv pairs where the key matches the given
+   *     prefix. The visitor can indicate whether iteration should continue or not, see {@link
+   *     KeyValuePairVisitor}.
+   * @param argument passed to the visitor, e.g. the consumer given to a public method
    */
-  private void forEachInPrefix(
+  private <T> void forEachInPrefix(
+      final ZeebeTransaction transaction,
       final DbKey startAt,
       final DbKey prefix,
-      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+      final EntryVisitor<KeyType, ValueType, T> visitor,
+      final T argument) {
     try (final var timer = metrics.measureIterateLatency()) {
       final var seekTarget = Objects.requireNonNullElse(startAt, prefix);
       Objects.requireNonNull(prefix);
@@ -388,26 +581,27 @@ class TransactionalColumnFamily<
        *
        * <p>While iterating over subsequent keys we have to validate it.
        */
-      columnFamilyContext.withPrefixKey(
-          prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-              boolean shouldVisitNext = true;
-
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                  iterator.isValid() && shouldVisitNext;
-                  iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                  break;
-                }
-
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
-              }
-            }
-          });
+      final var prefixKey = columnFamilyContext.acquirePrefixKey(prefix);
+      final var prefixLength = columnFamilyContext.prefixKeyLength(prefix);
+      final var iterator = acquireIterator(transaction);
+      final var buffers = acquireEntryBuffers();
+      try {
+        boolean shouldVisitNext = true;
+
+        for (iterator.seek(columnFamilyContext.getColumnFamilyPrefix(), seekTarget);
+            iterator.isValid() && shouldVisitNext;
+            iterator.next()) {
+          if (!iterator.keyStartsWith(prefixKey.byteArray(), prefixLength)) {
+            break;
+          }
+
+          shouldVisitNext = visit(buffers, visitor, argument, iterator);
+        }
+      } finally {
+        iterationDepth--;
+        transaction.releaseIterator(iterator);
+        columnFamilyContext.releasePrefixKey(prefixKey);
+      }
     }
   }
 
@@ -421,10 +615,10 @@ class TransactionalColumnFamily<
    * @return count of the number of entries in the column family with the given prefix starting from
    *     the given startAt.
    */
-  private long countEachInPrefix(final DbKey prefix) {
+  private long countEachInPrefix(final ZeebeTransaction transaction, final DbKey prefix) {
     final var seekTarget = Objects.requireNonNull(prefix);
 
-    final var count = new AtomicLong(0);
+    long count = 0;
 
     /*
      * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
@@ -435,43 +629,83 @@ class TransactionalColumnFamily<
      *
      * <p>While iterating over subsequent keys we have to validate it.
      */
-    columnFamilyContext.withPrefixKey(
-        prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
-            }
-          }
-        });
+    final var prefixKey = columnFamilyContext.acquirePrefixKey(prefix);
+    final var prefixLength = columnFamilyContext.prefixKeyLength(prefix);
+    final var iterator = acquireIterator(transaction);
+    try {
+      for (iterator.seek(columnFamilyContext.getColumnFamilyPrefix(), seekTarget);
+          iterator.isValid();
+          iterator.next()) {
+        if (!iterator.keyStartsWith(prefixKey.byteArray(), prefixLength)) {
+          break;
+        }
+
+        count++;
+      }
+    } finally {
+      transaction.releaseIterator(iterator);
+      columnFamilyContext.releasePrefixKey(prefixKey);
+    }
 
-    return count.get();
+    return count;
   }
 
-  private boolean visit(
-      final KeyType keyInstance,
-      final ValueType valueInstance,
-      final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
-      final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+  /**
+   * Returns the entry buffers of the current nesting level, such that a nested iteration over this
+   * column family does not overwrite the entry of the enclosing one.
+   */
+  private EntryBuffers acquireEntryBuffers() {
+    if (iterationDepth == entryBuffers.size()) {
+      entryBuffers.add(new EntryBuffers());
+    }
+    return entryBuffers.get(iterationDepth++);
+  }
 
-    final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
-    keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
-    final DirectBuffer valueViewBuffer = columnFamilyContext.getValueView();
+  private <T> boolean visit(
+      final EntryBuffers buffers,
+      final EntryVisitor<KeyType, ValueType, T> visitor,
+      final T argument,
+      final PooledRocksIterator iterator) {
+    // the key view contains the column family prefix, which is not part of the key instance
+    final DirectBuffer keyViewBuffer = buffers.copyKey(iterator.key());
+    keyInstance.wrap(keyViewBuffer, Long.BYTES, keyViewBuffer.capacity() - Long.BYTES);
+    final DirectBuffer valueViewBuffer = buffers.copyValue(iterator.value());
     valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
 
-    return iteratorConsumer.visit(keyInstance, valueInstance);
+    return visitor.visit(argument, keyInstance, valueInstance);
+  }
+
+  /**
+   * Visits an entry on behalf of the given argument. Passing the argument along, instead of
+   * capturing it, lets the adapters of the public iteration methods be created once per column
+   * family.
+   */
+  @FunctionalInterface
+  private interface EntryVisitor<K, V, T> {
+    boolean visit(T argument, K key, V value);
+  }
+
+  /** Buffers owned by the column family, into which the current entry of an iteration is copied. */
+  private static final class EntryBuffers {
+    private final MutableDirectBuffer key = new ExpandableArrayBuffer();
+    private final MutableDirectBuffer value = new ExpandableArrayBuffer();
+    private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+    private DirectBuffer copyKey(final DirectBuffer source) {
+      return copy(source, key, keyView);
+    }
+
+    private DirectBuffer copyValue(final DirectBuffer source) {
+      return copy(source, value, valueView);
+    }
+
+    private static DirectBuffer copy(
+        final DirectBuffer source, final MutableDirectBuffer target, final UnsafeBuffer view) {
+      final int length = source.capacity();
+      target.putBytes(0, source, 0, length);
+      view.wrap(target, 0, length);
+      return view;
+    }
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WBWIRocksIterator.WriteType;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which buffers its writes in a {@link WriteBatchWithIndex} on top of a
+ * plain {@link RocksDB}. Reads go through the indexed batch first and fall back to the database, so
+ * the transaction reads its own writes; committing writes the whole batch atomically, and rolling
+ * back simply clears it.
+ *
+ * <p>Unlike an optimistic transaction, no written keys are tracked and no conflicts are checked on
+ * commit. This is only safe because a database is written by a single transaction context at a
+ * time, i.e. the stream processor of its partition.
+ *
+ * <p>Only the public API of the batch is used. It takes the column family and read options as
+ * objects, so the native handles given to the read and write methods are ignored; every column
+ * family of zb-db is stored in the default column family of the database, see {@link
+ * ZeebeTransactionDb}.
+ */
+final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private static final int INITIAL_BUFFER_CAPACITY = 1024;
+  // keys up to this length are copied into reused arrays when the batch needs an exact size key
+  private static final int MAX_REUSED_KEY_LENGTH = 256;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final ReadOptions readOptions;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final byte[][] reusedKeys = new byte[MAX_REUSED_KEY_LENGTH + 1][];
+
+  // the batch only accepts direct buffers besides exact size arrays
+  private ByteBuffer keyBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+  private ByteBuffer valueBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+
+  WriteBatchZeebeTransaction(
+      final RocksDB db,
+      final ColumnFamilyHandle columnFamilyHandle,
+      final ReadOptions readOptions,
+      final WriteOptions writeOptions) {
+    this.db = db;
+    this.columnFamilyHandle = columnFamilyHandle;
+    this.readOptions = readOptions;
+    this.writeOptions = writeOptions;
+    // overwrite existing keys in the index, such that reads return the latest write
+    batch = new WriteBatchWithIndex(true);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    keyBuffer = wrap(keyBuffer, key, keyLength);
+    valueBuffer = wrap(valueBuffer, value, valueLength);
+    batch.put(this.columnFamilyHandle, keyBuffer, valueBuffer);
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    return batch.getFromBatchAndDB(
+        db, this.columnFamilyHandle, readOptions, exactSizeKey(key, keyLength));
+  }
+
+  @Override
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle,
+      final List<byte[]> keys)
+      throws RocksDBException {
+    if (batch.count() == 0) {
+      return db.multiGetAsList(
+          readOptions, Collections.nCopies(keys.size(), columnFamilyHandle), keys);
+    }
+
+    // the indexed batch has no multi get, so only the keys which aren't written in this
+    // transaction are looked up in the database, all at once
+    final List<byte[]> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    final List<byte[]> missingKeys = new ArrayList<>(keys.size());
+    final int[] missingIndexes = new int[keys.size()];
+    try (final var batchIterator = batch.newIterator(columnFamilyHandle)) {
+      for (int i = 0; i < keys.size(); i++) {
+        final byte[] key = keys.get(i);
+        batchIterator.seek(key);
+        if (batchIterator.isValid()) {
+          final var entry = batchIterator.entry();
+          if (entry.getKey().data().equals(ByteBuffer.wrap(key))) {
+            values.set(i, entry.getType() == WriteType.PUT ? toArray(entry.getValue().data()) : null);
+            continue;
+          }
+        }
+
+        missingIndexes[missingKeys.size()] = i;
+        missingKeys.add(key);
+      }
+    }
+
+    if (!missingKeys.isEmpty()) {
+      final var missingValues =
+          db.multiGetAsList(
+              readOptions, Collections.nCopies(missingKeys.size(), columnFamilyHandle), missingKeys);
+      for (int i = 0; i < missingValues.size(); i++) {
+        values.set(missingIndexes[i], missingValues.get(i));
+      }
+    }
+
+    return values;
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    keyBuffer = wrap(keyBuffer, key, keyLength);
+    batch.delete(this.columnFamilyHandle, keyBuffer);
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the batch iterator takes ownership of the base iterator, and closes it when it is closed
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  void beginWrites() {
+    batch.clear();
+  }
+
+  @Override
+  void commitWrites() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  void rollbackWrites() {
+    batch.clear();
+  }
+
+  @Override
+  void closeWrites() {
+    batch.close();
+  }
+
+  private byte[] exactSizeKey(final byte[] key, final int keyLength) {
+    if (key.length == keyLength) {
+      return key;
+    }
+
+    if (keyLength > MAX_REUSED_KEY_LENGTH) {
+      return Arrays.copyOf(key, keyLength);
+    }
+
+    var reusedKey = reusedKeys[keyLength];
+    if (reusedKey == null) {
+      reusedKey = new byte[keyLength];
+      reusedKeys[keyLength] = reusedKey;
+    }
+    System.arraycopy(key, 0, reusedKey, 0, keyLength);
+    return reusedKey;
+  }
+
+  private static ByteBuffer wrap(final ByteBuffer buffer, final byte[] bytes, final int length) {
+    var target = buffer;
+    if (target.capacity() < length) {
+      target = ByteBuffer.allocateDirect(Math.max(length, target.capacity() * 2));
+    }
+    target.clear();
+    target.put(bytes, 0, length).flip();
+    return target;
+  }
+
+  private static byte[] toArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
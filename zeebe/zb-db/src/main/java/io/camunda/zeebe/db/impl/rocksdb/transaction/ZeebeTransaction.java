@@ -9,93 +9,126 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * Keeps track of everything which belongs to a transaction of a {@link DefaultTransactionContext},
+ * i.e. pooled iterators, column family caches and listeners, independently of how the writes of the
+ * transaction are buffered and committed. The same object is reused for all transactions of its
+ * context.
+ *
+ * <p>Implementations must read their own uncommitted writes, apply all writes of a transaction
+ * atomically on commit, and discard them on rollback.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  private final Long2ObjectHashMap<ColumnFamilyCache> columnFamilyCaches =
+      new Long2ObjectHashMap<>();
+  private final Deque<PooledRocksIterator> idleIterators = new ArrayDeque<>();
+  private final List<PooledRocksIterator> pooledIterators = new ArrayList<>();
+  private final List<TransactionListener> transactionListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
-
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
 
-  public void put(
-      final long columnFamilyHandle,
-      final byte[] key,
-      final int keyLength,
-      final byte[] value,
-      final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+  public abstract void put(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
+
+  public abstract byte[] get(
+      long columnFamilyHandle, long readOptionsHandle, byte[] key, int keyLength) throws Exception;
+
+  /**
+   * Reads the values of all given keys in one batch, which reads through the transaction's own
+   * writes the same way as {@link #get(long, long, byte[], int)}.
+   *
+   * @return the values in the same order as the given keys; missing keys have a null value
+   */
+  public abstract List<byte[]> multiGet(
+      ReadOptions readOptions, ColumnFamilyHandle columnFamilyHandle, List<byte[]> keys)
+      throws RocksDBException;
+
+  public abstract void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
+
+  /**
+   * @return a new iterator over the committed state merged with the writes of this transaction
+   */
+  public abstract RocksIterator newIterator(ReadOptions options, ColumnFamilyHandle handle);
+
+  /** Prepares the underlying transaction to buffer the writes of a new transaction. */
+  abstract void beginWrites();
+
+  /** Atomically applies the buffered writes of the current transaction to the database. */
+  abstract void commitWrites() throws RocksDBException;
+
+  /** Discards the buffered writes of the current transaction, if any. */
+  abstract void rollbackWrites() throws RocksDBException;
+
+  /** Releases the native resources of the underlying transaction. */
+  abstract void closeWrites();
+
+  /**
+   * Acquires an iterator from the pool of this transaction. The returned iterator may not be open
+   * yet, in which case the caller has to {@link PooledRocksIterator#open(RocksIterator) open} it.
+   * All pooled iterators are opened with the same read options, and are closed when the transaction
+   * is committed or rolled back, since they are bound to it.
+   *
+   * <p>Every acquired iterator must be {@link #releaseIterator(PooledRocksIterator) released} once
+   * the iteration is done, such that nested iterations each use their own iterator.
+   */
+  PooledRocksIterator acquireIterator() {
+    var iterator = idleIterators.poll();
+    if (iterator == null) {
+      iterator = new PooledRocksIterator();
+      pooledIterators.add(iterator);
     }
+    return iterator;
   }
 
-  public byte[] get(
-      final long columnFamilyHandle,
-      final long readOptionsHandle,
-      final byte[] key,
-      final int keyLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
+  void releaseIterator(final PooledRocksIterator iterator) {
+    idleIterators.push(iterator);
   }
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+  /**
+   * Returns the cache for the given column family, creating it if necessary. Caches live as long as
+   * this transaction object, i.e. as long as the owning transaction context, and are kept
+   * consistent with commits and rollbacks of the transaction, as well as with the commits of other
+   * contexts via the shared counter of committed writes.
+   *
+   * @param columnFamilyPrefix the prefix of the column family to cache
+   * @param maxEntries the maximum number of entries kept in the cache, if it has to be created
+   * @param committedWrites the counter of committed writes to the column family, shared by all
+   *     contexts of the database
+   * @return the cache for the given column family
+   */
+  ColumnFamilyCache getColumnFamilyCache(
+      final long columnFamilyPrefix, final int maxEntries, final AtomicLong committedWrites) {
+    var cache = columnFamilyCaches.get(columnFamilyPrefix);
+    if (cache == null) {
+      cache = new ColumnFamilyCache(maxEntries, committedWrites);
+      columnFamilyCaches.put(columnFamilyPrefix, cache);
     }
+    return cache;
   }
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  void addTransactionListener(final TransactionListener listener) {
+    transactionListeners.add(listener);
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    beginWrites();
     inCurrentTransaction = true;
   }
 
@@ -144,16 +177,29 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    closePooledIterators();
+    commitWrites();
+    columnFamilyCaches.values().forEach(ColumnFamilyCache::onCommit);
+    transactionListeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    closePooledIterators();
+    columnFamilyCaches.values().forEach(ColumnFamilyCache::onRollback);
+    transactionListeners.forEach(TransactionListener::onRollback);
+    rollbackWrites();
+  }
+
+  private void closePooledIterators() {
+    for (int i = 0; i < pooledIterators.size(); i++) {
+      pooledIterators.get(i).closeIterator();
+    }
   }
 
   @Override
   public void close() {
-    transaction.close();
+    closePooledIterators();
+    closeWrites();
   }
 }
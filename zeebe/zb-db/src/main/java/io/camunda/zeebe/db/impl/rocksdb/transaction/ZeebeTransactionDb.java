@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.ColumnFamilyCacheMetrics;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
@@ -23,10 +24,13 @@ import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -35,17 +39,16 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
-import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
 public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
-    implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
+    implements ZeebeDb<ColumnFamilyNames> {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private final RocksDB db;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
@@ -54,20 +57,25 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final Set<String> cachedColumnFamilies;
+  private final int columnFamilyCacheSize;
+  private final Map<Long, AtomicLong> committedWrites = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB db,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.db = db;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -84,6 +92,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     closables.add(defaultWriteOptions);
   }
 
+  /**
+   * Opens an {@link OptimisticTransactionDB}, on which every transaction context uses an optimistic
+   * transaction.
+   */
   public static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
           final RocksDbOptions options,
@@ -93,14 +105,56 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+        OptimisticTransactionDB.open(
+            options.dbOptions(), path, columnFamilyDescriptors(options), cfHandles);
     closables.add(optimisticTransactionDB);
 
+    return new ZeebeTransactionDb<>(
+        defaultColumnFamilyHandle(cfHandles, closables),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metrics);
+  }
+
+  /**
+   * Opens a plain {@link RocksDB}, on which every transaction context buffers its writes in a
+   * {@link org.rocksdb.WriteBatchWithIndex}. This avoids the overhead of tracking and checking
+   * conflicts, which cannot happen as long as a single transaction context writes at a time.
+   */
+  public static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeTransactionDb<ColumnFamilyNames> openWriteBatchDb(
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> closables,
+          final RocksDbConfiguration rocksDbConfiguration,
+          final ConsistencyChecksSettings consistencyChecksSettings,
+          final AccessMetricsConfiguration metrics)
+          throws RocksDBException {
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    final RocksDB db =
+        RocksDB.open(options.dbOptions(), path, columnFamilyDescriptors(options), cfHandles);
+    closables.add(db);
+
+    return new ZeebeTransactionDb<>(
+        defaultColumnFamilyHandle(cfHandles, closables),
+        db,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metrics);
+  }
+
+  private static List<ColumnFamilyDescriptor> columnFamilyDescriptors(
+      final RocksDbOptions options) {
+    return List.of(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+  }
+
+  private static ColumnFamilyHandle defaultColumnFamilyHandle(
+      final List<ColumnFamilyHandle> cfHandles, final List<AutoCloseable> closables) {
     if (cfHandles.size() != 1) {
       throw new IllegalStateException(
           "Expected a handle for the default column family but found %d handles"
@@ -109,14 +163,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
-
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    return defaultColumnFamilyHandle;
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -136,10 +183,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
+  /**
+   * Returns the counter of committed transactions which wrote to the given column family. The
+   * counter is shared by all transaction contexts of this database, and used to invalidate their
+   * column family caches.
+   */
+  AtomicLong getCommittedWrites(final long columnFamilyPrefix) {
+    return committedWrites.computeIfAbsent(columnFamilyPrefix, prefix -> new AtomicLong());
+  }
+
   protected long getDefaultNativeHandle() {
     return defaultNativeHandle;
   }
@@ -158,6 +218,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
               new FineGrainedColumnFamilyMetrics(
                   accessMetricsConfiguration.partitionId(), columnFamily);
         };
+    final var cacheSize =
+        cachedColumnFamilies.contains(columnFamily.name()) ? columnFamilyCacheSize : 0;
+    final var cacheMetrics =
+        cacheSize > 0
+            ? new ColumnFamilyCacheMetrics(accessMetricsConfiguration.partitionId(), columnFamily)
+            : null;
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -165,12 +231,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        cacheSize,
+        cacheMetrics);
   }
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(db)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -184,17 +252,38 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = db.getProperty(defaultHandle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  @Override
+  public Optional<Map<String, String>> getMapProperty(final String propertyName) {
+    Map<String, String> propertyValues = null;
+    try {
+      propertyValues = db.getMapProperty(defaultHandle, propertyName);
+    } catch (final RocksDBException rde) {
+      LOG.debug(rde.getMessage(), rde);
+    }
+    return Optional.ofNullable(propertyValues);
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction;
+    if (db instanceof final OptimisticTransactionDB optimisticTransactionDB) {
+      zeebeTransaction =
+          new OptimisticZeebeTransaction(
+              optimisticTransactionDB.beginTransaction(defaultWriteOptions),
+              oldTransaction ->
+                  optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction));
+    } else {
+      zeebeTransaction =
+          new WriteBatchZeebeTransaction(
+              db, defaultHandle, defaultReadOptions, defaultWriteOptions);
+    }
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -206,11 +295,6 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         .isEmpty();
   }
 
-  @Override
-  public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
-  }
-
   @Override
   public void close() {
     // Correct order of closing
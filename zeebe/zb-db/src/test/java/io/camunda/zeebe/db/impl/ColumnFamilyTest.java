@@ -76,6 +76,42 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldGetAllValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    upsertKeyValuePair(2, 20);
+    final var keys = List.of(keyOf(3), keyOf(4), keyOf(1));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final List<Long> visitedValues = new ArrayList<>();
+    columnFamily.getAll(
+        keys,
+        (key, value) -> {
+          visitedKeys.add(key.getValue());
+          visitedValues.add(value == null ? null : value.getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(3L, 4L, 1L);
+    assertThat(visitedValues).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldNotVisitAnythingOnGetAllWithoutKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+
+    // when
+    final List<DbLong> visitedValues = new ArrayList<>();
+    columnFamily.getAll(List.of(), (key, value) -> visitedValues.add(value));
+
+    // then
+    assertThat(visitedValues).isEmpty();
+  }
+
   @Test
   public void shouldPutMultipleValues() {
     // given
@@ -471,4 +507,10 @@ public final class ColumnFamilyTest {
     this.value.wrapLong(value);
     columnFamily.upsert(this.key, this.value);
   }
+
+  private DbLong keyOf(final long value) {
+    final var dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
 }
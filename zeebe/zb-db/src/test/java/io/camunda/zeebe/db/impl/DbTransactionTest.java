@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -477,6 +478,79 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnError() {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    assertThatThrownBy(
+        () ->
+            transactionContext.runInTransaction(
+                () -> {
+                  oneColumnFamily.insert(oneKey, oneValue);
+                  throw new RuntimeException("expected");
+                }));
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
+
   private enum ColumnFamilies implements EnumValue {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the allocations of prefix iteration over a column family. Once warmed up, iterating
+ * should not allocate anything per visited entry, as the iterators and their buffers are pooled by
+ * the transaction.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyIterationPerformanceTest {
+  private static final int PREFIX_COUNT = 1_000;
+  private static final int ENTRIES_PER_PREFIX = 10;
+
+  /**
+   * The maximum bytes allocated per operation, i.e. per iteration over {@link #ENTRIES_PER_PREFIX}
+   * entries. Setting up the iteration allocates a few short-lived objects (e.g. capturing lambdas),
+   * but this is far below what would be allocated if keys and values were copied into new arrays
+   * for every entry.
+   */
+  private static final double MAX_ALLOCATED_BYTES_PER_OPERATION = 128.0;
+
+  private final DbLong firstKey = new DbLong();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> compositeKey =
+      new DbCompositeKey<>(firstKey, secondKey);
+  private final DbLong value = new DbLong();
+  private final DbLong prefix = new DbLong();
+
+  private Path databaseDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private long nextPrefix;
+
+  @Setup
+  public void setup() throws Exception {
+    databaseDirectory = Files.createTempDirectory("zb-db-iteration");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(databaseDirectory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, value);
+
+    for (long i = 0; i < PREFIX_COUNT; i++) {
+      firstKey.wrapLong(i);
+      for (long j = 0; j < ENTRIES_PER_PREFIX; j++) {
+        secondKey.wrapLong(j);
+        value.wrapLong(i * j);
+        columnFamily.insert(compositeKey, value);
+      }
+    }
+
+    // keep a single transaction open, such that its pooled iterators are reused across operations
+    transactionContext.getCurrentTransaction();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(databaseDirectory);
+  }
+
+  @Benchmark
+  public void measurePrefixIteration(final IterationVisitor visitor) {
+    prefix.wrapLong(nextPrefix++ % PREFIX_COUNT);
+    columnFamily.whileEqualPrefix(prefix, visitor);
+  }
+
+  @JMHTest("measurePrefixIteration")
+  void shouldNotAllocatePerVisitedEntry(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(options -> options.addProfiler(GCProfiler.class));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost("gc.alloc.rate.norm", MAX_ALLOCATED_BYTES_PER_OPERATION);
+  }
+
+  @State(org.openjdk.jmh.annotations.Scope.Thread)
+  public static class IterationVisitor
+      implements KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbLong> {
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public boolean visit(final DbCompositeKey<DbLong, DbLong> key, final DbLong value) {
+      blackhole.consume(key.second().getValue());
+      blackhole.consume(value.getValue());
+      return true;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the optimistic transactions with the write batch transactions, by running transactions
+ * which look like the processing of a command: a few point lookups of existing state, a few
+ * inserted and updated keys, and a deleted key, all committed at once.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionPerformanceTest {
+  private static final int KEY_COUNT = 100_000;
+  private static final int WRITES_PER_TRANSACTION = 4;
+
+  /**
+   * Every point lookup returns a new array with the value, and running a transaction captures a few
+   * lambdas, which is small compared to what RocksDB allocates natively for the transaction.
+   */
+  private static final double MAX_ALLOCATED_BYTES_PER_TRANSACTION = 2048.0;
+
+  @Param({"writeBatch", "optimistic"})
+  public String transactions;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private Path databaseDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    databaseDirectory = Files.createTempDirectory("zb-db-transaction");
+    final var configuration =
+        new RocksDbConfiguration()
+            .setWriteBatchTransactionsEnabled(
+                switch (transactions) {
+                  case "writeBatch" -> true;
+                  case "optimistic" -> false;
+                  default ->
+                      throw new IllegalArgumentException("Unknown transactions " + transactions);
+                });
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                configuration,
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(databaseDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (nextKey = 0; nextKey < KEY_COUNT; nextKey++) {
+            key.wrapLong(nextKey);
+            value.wrapLong(nextKey);
+            columnFamily.insert(key, value);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(databaseDirectory);
+  }
+
+  @Benchmark
+  public void measureTransaction(final Blackhole blackhole) {
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < WRITES_PER_TRANSACTION; i++) {
+            // read and update state which was written a while ago
+            key.wrapLong(nextKey - KEY_COUNT / 2 - i);
+            blackhole.consume(columnFamily.get(key));
+            value.wrapLong(nextKey);
+            columnFamily.upsert(key, value);
+
+            // insert new state, and read it again
+            key.wrapLong(nextKey + i);
+            columnFamily.insert(key, value);
+            blackhole.consume(columnFamily.get(key));
+          }
+
+          // delete the oldest state, such that the amount of state stays the same
+          for (int i = 0; i < WRITES_PER_TRANSACTION; i++) {
+            key.wrapLong(nextKey - KEY_COUNT + i);
+            columnFamily.deleteIfExists(key);
+          }
+        });
+    nextKey += WRITES_PER_TRANSACTION;
+  }
+
+  @JMHTest("measureTransaction")
+  void shouldNotAllocateMuchPerTransaction(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        options -> options.addProfiler(GCProfiler.class).param("transactions", "writeBatch"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.hasSecondaryResultAtMost(
+        "gc.alloc.rate.norm", MAX_ALLOCATED_BYTES_PER_TRANSACTION);
+  }
+}
@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -25,7 +26,10 @@ import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -130,6 +134,57 @@ final class ZeebeRocksDbFactoryTest {
             "Expected to create column family options for RocksDB, but one or many values are undefined in the context of RocksDB");
   }
 
+  @Test
+  void shouldNotCompactOnDeletionPerDefault(final @TempDir File pathName) throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory = DefaultZeebeDbFactory.getDefaultFactory();
+
+    // when
+    dbFactory.createDb(pathName).close();
+
+    // then
+    assertThat(readOptionsFile(pathName)).doesNotContain("CompactOnDeletionCollector");
+  }
+
+  @Test
+  void shouldCompactOnDeletionIfEnabled(final @TempDir File pathName) throws Exception {
+    // given
+    final var dbFactory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setDeletionTriggeredCompactionEnabled(true),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+
+    // when
+    dbFactory.createDb(pathName).close();
+
+    // then
+    assertThat(readOptionsFile(pathName)).contains("CompactOnDeletionCollector");
+  }
+
+  @Test
+  void shouldCompactOnDeletionIfEnabledWithUserOptions(final @TempDir File pathName)
+      throws Exception {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(16)));
+    final var dbFactory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setColumnFamilyOptions(customProperties)
+                .setDeletionTriggeredCompactionEnabled(true),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+
+    // when
+    dbFactory.createDb(pathName).close();
+
+    // then
+    assertThat(readOptionsFile(pathName))
+        .contains("CompactOnDeletionCollector")
+        .contains("write_buffer_size=" + ByteValue.ofMegabytes(16));
+  }
+
   @Test
   void shouldOpenSnapshotOnlyDb(final @TempDir File path, final @TempDir File tempDir)
       throws Exception {
@@ -216,7 +271,19 @@ final class ZeebeRocksDbFactoryTest {
                     new DbByte())),
         Named.of(
             "isEmpty", db -> db.isEmpty(DefaultColumnFamily.DEFAULT, new NoOpTransactionContext())),
-        Named.of("getProperty", db -> db.getProperty("foo")));
+        Named.of("getProperty", db -> db.getProperty("foo")),
+        Named.of("getMapProperty", db -> db.getMapProperty("foo")));
+  }
+
+  private static String readOptionsFile(final File pathName) throws IOException {
+    try (final var files = Files.list(pathName.toPath())) {
+      final var optionsFile =
+          files
+              .filter(file -> file.getFileName().toString().startsWith("OPTIONS-"))
+              .max(Comparator.naturalOrder())
+              .orElseThrow();
+      return Files.readString(optionsFile);
+    }
   }
 
   private static final class NoOpTransactionContext implements TransactionContext {
@@ -228,5 +295,8 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void addTransactionListener(final TransactionListener listener) {}
   }
 }
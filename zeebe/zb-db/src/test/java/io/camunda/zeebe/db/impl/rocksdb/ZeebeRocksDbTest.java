@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.prometheus.client.CollectorRegistry;
 import java.io.File;
 import org.junit.Rule;
 import org.junit.Test;
@@ -110,4 +111,33 @@ public final class ZeebeRocksDbTest {
 
     assertThat(dbString).hasToString("bar");
   }
+
+  @Test
+  public void shouldExportDeletionsInSstFiles() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory = DefaultZeebeDbFactory.getDefaultFactory();
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder());
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.insert(key, value);
+    columnFamily.deleteExisting(key);
+    // taking a snapshot flushes the memtables, including the tombstone, into an SST file
+    db.createSnapshot(new File(temporaryFolder.newFolder(), "snapshot"));
+
+    // when
+    new ZeebeRocksDBMetricExporter<>("deletions", () -> db).exportMetrics();
+
+    // then
+    assertThat(
+            CollectorRegistry.defaultRegistry.getSampleValue(
+                "zeebe_rocksdb_deletes_num_deletions",
+                new String[] {"partition"},
+                new String[] {"deletions"}))
+        .isEqualTo(1);
+    db.close();
+  }
 }
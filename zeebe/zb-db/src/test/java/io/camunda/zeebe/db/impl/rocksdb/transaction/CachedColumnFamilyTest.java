@@ -0,0 +1,286 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  @TempDir File temporaryFolder;
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @BeforeEach
+  void beforeEach() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name()))
+                .setColumnFamilyCacheSize(2),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(temporaryFolder);
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadOwnWrites() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+
+    // when
+    value.wrapLong(20);
+    columnFamily.update(key, value);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldSeeDeletedKeyAsAbsent() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.exists(key)).isTrue();
+
+    // when
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  void shouldInvalidateCacheOnRollback() throws Exception {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          key.wrapLong(2);
+          columnFamily.insert(key, value);
+        });
+    transaction.rollback();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldKeepWritesOnCommit() throws Exception {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> columnFamily.insert(key, value));
+    transaction.commit();
+    transactionContext.getCurrentTransaction().rollback();
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldShareCacheBetweenColumnFamilyInstancesOfSameContext() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, otherKey, otherValue);
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.exists(key)).isTrue();
+
+    // when
+    otherKey.wrapLong(1);
+    otherColumnFamily.deleteExisting(otherKey);
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given
+    for (long i = 0; i < 5; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i * 10);
+      columnFamily.insert(key, value);
+    }
+
+    // when - then
+    for (long i = 0; i < 5; i++) {
+      key.wrapLong(i);
+      assertThat(columnFamily.get(key).getValue()).isEqualTo(i * 10);
+    }
+  }
+
+  @Test
+  void shouldSeeWritesOfOtherContexts() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(20);
+    otherColumnFamily.update(otherKey, otherValue);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldSeeKeysInsertedByOtherContexts() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isFalse();
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(20);
+    otherColumnFamily.insert(otherKey, otherValue);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldKeepCachedValuesOfOtherKeysAfterOwnCommit() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+
+    // when
+    key.wrapLong(2);
+    value.wrapLong(20);
+    columnFamily.insert(key, value);
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldKeepRecentlyUsedEntryWhenEvicting() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    key.wrapLong(2);
+    value.wrapLong(20);
+    columnFamily.insert(key, value);
+    key.wrapLong(1);
+    columnFamily.get(key);
+    final var hits = cacheAccesses("hit");
+
+    // when
+    key.wrapLong(3);
+    value.wrapLong(30);
+    columnFamily.insert(key, value);
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+    assertThat(cacheAccesses("hit")).isEqualTo(hits + 1);
+    key.wrapLong(2);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+    assertThat(cacheAccesses("hit")).isEqualTo(hits + 1);
+    key.wrapLong(3);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRecordCacheHitsAndMissesWithoutAccessMetrics() {
+    // given
+    final var hits = cacheAccesses("hit");
+    final var misses = cacheAccesses("miss");
+    key.wrapLong(1);
+
+    // when
+    columnFamily.exists(key);
+    columnFamily.exists(key);
+
+    // then
+    assertThat(cacheAccesses("miss")).isEqualTo(misses + 1);
+    assertThat(cacheAccesses("hit")).isEqualTo(hits + 1);
+  }
+
+  private double cacheAccesses(final String result) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_cache_access_total",
+            new String[] {"partition", "columnFamily", "result"},
+            new String[] {"1", DefaultColumnFamily.DEFAULT.name(), result});
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Iterations share the pooled iterators of a transaction. These tests verify that the key and value
+ * of a column family, which only wrap the iterated entry, are not overwritten by iterating another
+ * column family.
+ */
+final class ColumnFamilyIterationViewTest {
+
+  @TempDir File temporaryFolder;
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private final ViewBuffer oneKey = new ViewBuffer();
+  private final ViewBuffer oneValue = new ViewBuffer();
+  private final ViewBuffer twoKey = new ViewBuffer();
+  private final ViewBuffer twoValue = new ViewBuffer();
+  private ColumnFamily<ViewBuffer, ViewBuffer> oneColumnFamily;
+  private ColumnFamily<ViewBuffer, ViewBuffer> twoColumnFamily;
+
+  @BeforeEach
+  void beforeEach() {
+    zeebeDb = DefaultZeebeDbFactory.<ColumnFamilies>getDefaultFactory().createDb(temporaryFolder);
+    transactionContext = zeebeDb.createContext();
+    oneColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, transactionContext, oneKey, oneValue);
+    twoColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.TWO, transactionContext, twoKey, twoValue);
+
+    oneColumnFamily.insert(oneKey.wrap("one-key"), oneValue.wrap("one-value"));
+    twoColumnFamily.insert(twoKey.wrap("two-key"), twoValue.wrap("two-value"));
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldKeepEntryOfFinishedIterationWhenIteratingOtherColumnFamily() {
+    // given
+    final List<DirectBuffer> views = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneColumnFamily.forEach(
+              (key, value) -> {
+                views.add(key.view);
+                views.add(value.view);
+              });
+          twoColumnFamily.forEach((key, value) -> {});
+        });
+
+    // then
+    assertThat(views)
+        .extracting(view -> bufferAsString(view))
+        .containsExactly("one-key", "one-value");
+  }
+
+  @Test
+  void shouldKeepEntryOfOuterIterationWhenIteratingOtherColumnFamily() {
+    // given
+    final List<String> entries = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () ->
+            oneColumnFamily.whileTrue(
+                (key, value) -> {
+                  final var keyView = new UnsafeBuffer(key.view);
+                  twoColumnFamily.forEach((otherKey, otherValue) -> {});
+                  entries.add(bufferAsString(keyView));
+                  entries.add(bufferAsString(value.view));
+                  return true;
+                }));
+
+    // then
+    assertThat(entries).containsExactly("one-key", "one-value");
+  }
+
+  @Test
+  void shouldKeepEntryOfOuterIterationWhenIteratingSameColumnFamily() {
+    // given
+    final List<String> entries = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () ->
+            oneColumnFamily.forEach(
+                (key, value) -> {
+                  final var keyView = new UnsafeBuffer(key.view);
+                  final var valueView = new UnsafeBuffer(value.view);
+                  oneColumnFamily.forEach((innerKey, innerValue) -> {});
+                  entries.add(bufferAsString(keyView));
+                  entries.add(bufferAsString(valueView));
+                }));
+
+    // then
+    assertThat(entries).containsExactly("one-key", "one-value");
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    TWO;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+
+  /** A key and value which, like a record value with string properties, views the read bytes. */
+  private static final class ViewBuffer implements DbKey, DbValue {
+    private final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+
+    private ViewBuffer wrap(final String string) {
+      view.wrap(wrapString(string));
+      return this;
+    }
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      view.wrap(buffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return view.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, view, 0, view.capacity());
+    }
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchZeebeTransactionTest {
+
+  @TempDir File temporaryFolder;
+
+  private final ZeebeRocksDbFactory<DefaultColumnFamily> factory =
+      new ZeebeRocksDbFactory<>(
+          new RocksDbConfiguration().setWriteBatchTransactionsEnabled(true),
+          new ConsistencyChecksSettings(true, true),
+          new AccessMetricsConfiguration(Kind.NONE, 1));
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @BeforeEach
+  void beforeEach() {
+    zeebeDb = factory.createDb(new File(temporaryFolder, "runtime"));
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldUseWriteBatchTransaction() {
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // then
+    assertThat(transaction).isInstanceOf(WriteBatchZeebeTransaction.class);
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          insert(1, 10);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          insert(2, 30);
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherContexts() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, otherKey, new DbLong());
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> insert(1, 10));
+
+    // then
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+
+    transaction.commit();
+    assertThat(otherColumnFamily.exists(otherKey)).isTrue();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    insert(1, 10);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          insert(2, 20);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldIterateOverCommittedStateMergedWithUncommittedWrites() throws Exception {
+    // given
+    insert(1, 10);
+    insert(3, 30);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          insert(2, 20);
+          key.wrapLong(3);
+          columnFamily.deleteExisting(key);
+        });
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.forEach((k, v) -> keys.add(k.getValue()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldGetAllThroughUncommittedWrites() throws Exception {
+    // given
+    insert(1, 10);
+    insert(2, 20);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          value.wrapLong(11);
+          key.wrapLong(1);
+          columnFamily.update(key, value);
+          insert(3, 30);
+        });
+    final var keys = List.of(dbLong(1), dbLong(2), dbLong(3), dbLong(4));
+
+    // when
+    final Map<Long, Long> entries = new HashMap<>();
+    columnFamily.getAll(keys, (k, v) -> entries.put(k.getValue(), v == null ? null : v.getValue()));
+
+    // then
+    assertThat(entries)
+        .containsEntry(1L, 11L)
+        .containsEntry(2L, 20L)
+        .containsEntry(3L, 30L)
+        .containsEntry(4L, null);
+  }
+
+  @Test
+  void shouldGetAllDeletedInUncommittedWrites() throws Exception {
+    // given
+    insert(1, 10);
+    insert(2, 20);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          insert(3, 30);
+        });
+    final var keys = List.of(dbLong(1), dbLong(2), dbLong(3));
+
+    // when
+    final Map<Long, Long> entries = new HashMap<>();
+    columnFamily.getAll(keys, (k, v) -> entries.put(k.getValue(), v == null ? null : v.getValue()));
+
+    // then
+    assertThat(entries)
+        .containsEntry(1L, null)
+        .containsEntry(2L, 20L)
+        .containsEntry(3L, 30L);
+  }
+
+  @Test
+  void shouldWriteKeysAndValuesLargerThanTheInitialBuffers() throws Exception {
+    // given
+    final var stringKey = new DbString();
+    final var stringValue = new DbString();
+    final var stringColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, stringKey, stringValue);
+    final var largeKey = "k".repeat(2048);
+    final var largeValue = "v".repeat(64 * 1024);
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          stringKey.wrapString(largeKey);
+          stringValue.wrapString(largeValue);
+          stringColumnFamily.insert(stringKey, stringValue);
+        });
+    transaction.commit();
+
+    // then
+    stringKey.wrapString(largeKey);
+    assertThat(stringColumnFamily.get(stringKey).toString()).isEqualTo(largeValue);
+    stringColumnFamily.deleteExisting(stringKey);
+    assertThat(stringColumnFamily.exists(stringKey)).isFalse();
+  }
+
+  @Test
+  void shouldIncludeCommittedWritesInSnapshot() throws Exception {
+    // given
+    insert(1, 10);
+    final var snapshotDir = new File(temporaryFolder, "snapshot");
+
+    // when
+    zeebeDb.createSnapshot(snapshotDir);
+
+    // then
+    try (final var snapshotDb = factory.createDb(snapshotDir)) {
+      final var snapshotKey = dbLong(1);
+      final var snapshotValue = new DbLong();
+      final var snapshotColumnFamily =
+          snapshotDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, snapshotDb.createContext(), snapshotKey, snapshotValue);
+      assertThat(snapshotColumnFamily.get(snapshotKey).getValue()).isEqualTo(10);
+    }
+  }
+
+  private void insert(final long newKey, final long newValue) {
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    columnFamily.insert(key, value);
+  }
+
+  private static DbLong dbLong(final long value) {
+    final var dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
+}